@@ -0,0 +1,44 @@
+package com.mday.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs the benchmarks with the GC profiler, which reports the bytes allocated by each benchmark operation as
+ * {@code gc.alloc.rate.norm}. An operation of the unit mover benchmark is a single simulation tick, so its result is
+ * the allocation per tick. Any JMH command line options may be provided, such as a regular expression selecting the
+ * benchmarks to run, and the results are written to {@value #RESULT_FILE} to compare against later runs:
+ *
+ * <pre>java -cp benchmarks/target/benchmarks.jar com.mday.benchmark.AllocationProfile UnitMover</pre>
+ */
+public class AllocationProfile {
+    /**
+     * The file to which the benchmark results are written, in JSON format.
+     */
+    public static final String RESULT_FILE = "allocation-profile.json";
+
+    /**
+     * The entry-point into the allocation profile.
+     *
+     * @param args the JMH command line options
+     * @throws CommandLineOptionException if the command line options are not valid
+     * @throws RunnerException if there is a problem running the benchmarks
+     */
+    public static void main(@Nullable final String... args) throws CommandLineOptionException, RunnerException {
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args == null ? new String[0] : args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT_FILE)
+                .build();
+        new Runner(options).run();
+    }
+}
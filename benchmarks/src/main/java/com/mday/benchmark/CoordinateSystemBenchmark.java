@@ -0,0 +1,75 @@
+package com.mday.benchmark;
+
+import com.mday.game.CoordinateSystem;
+import com.mday.model.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.geom.Point2D;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Measures the conversions between game locations and surface points, which are performed for every unit drawn in
+ * each frame and for every mouse event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinateSystemBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoordinateSystemBenchmark.class);
+
+    @Nonnull
+    private final CoordinateSystem coordinateSystem = new CoordinateSystem();
+    @Nonnull
+    private Location location = new Location(123.5, -67.25);
+    @Nonnull
+    private Point2D.Double point = new Point2D.Double(640, 360);
+
+    /**
+     * Set up a zoomed in view away from the origin.
+     */
+    @Setup
+    public void setup() {
+        coordinateSystem.setWidth(1920);
+        coordinateSystem.setHeight(1080);
+        coordinateSystem.setScale(2.25);
+        coordinateSystem.setCenter(new Location(100, -50));
+    }
+
+    /**
+     * Convert a game location into a surface point.
+     *
+     * @return the surface point
+     */
+    @Benchmark
+    @Nonnull
+    public Point2D.Double toPoint() {
+        return coordinateSystem.toPoint(location);
+    }
+
+    /**
+     * Convert a surface point into a game location.
+     *
+     * @return the game location
+     */
+    @Benchmark
+    @Nonnull
+    public Location toLocation() {
+        return coordinateSystem.toLocation(point);
+    }
+}
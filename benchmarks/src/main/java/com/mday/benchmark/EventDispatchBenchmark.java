@@ -0,0 +1,158 @@
+package com.mday.benchmark;
+
+import static java.awt.event.MouseEvent.MOUSE_MOVED;
+
+import com.mday.action.key.ArrowKeyAction;
+import com.mday.action.key.EscapeKeyAction;
+import com.mday.action.key.ZoomKeyAction;
+import com.mday.action.mouse.MouseAction;
+import com.mday.action.mouse.MouseZoomAction;
+import com.mday.event.Event;
+import com.mday.event.type.coordinate.PanEvent;
+import com.mday.event.type.coordinate.ZoomInEvent;
+import com.mday.event.type.coordinate.ZoomOutEvent;
+import com.mday.event.type.input.MouseEvent;
+import com.mday.event.type.unit.UnitDeselectEvent;
+import com.mday.game.AbstractRunner;
+import com.mday.game.CoordinateSystem;
+import com.mday.game.EventCoalescer;
+import com.mday.game.EventQueue;
+import com.mday.game.SpatialIndex;
+import com.mday.game.Units;
+import com.mday.game.movement.UnitMover;
+import com.mday.ui.render.MouseSelectionRenderer;
+import com.mday.ui.render.debug.MousePositionRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Canvas;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Measures the throughput of queuing a burst of input events and consuming them in the game loop, with the same event
+ * consumers that the client registers. The burst is mostly mouse movement, mixed with pans, zooms and deselection, as
+ * produced by fast mouse input within a single frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDispatchBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventDispatchBenchmark.class);
+
+    // The number of events queued and consumed in each invocation.
+    private static final int EVENTS = 1024;
+
+    // Whether redundant events are merged before they are dispatched, as the client runner does.
+    @Param({"false", "true"})
+    private boolean coalesce;
+
+    @Nonnull
+    private final EventQueue eventQueue = new EventQueue();
+    @Nonnull
+    private final Event[] events = new Event[EVENTS];
+    @Nonnull
+    private DispatchRunner runner = new DispatchRunner(eventQueue, false);
+
+    /**
+     * Register the event consumers and create the burst of events.
+     */
+    @Setup
+    public void setup() {
+        final CoordinateSystem coordinateSystem = new CoordinateSystem();
+        coordinateSystem.setWidth(1920);
+        coordinateSystem.setHeight(1080);
+        final SpatialIndex spatialIndex = new SpatialIndex();
+        final Units units = new Units(coordinateSystem, new UnitMover(spatialIndex), spatialIndex);
+
+        eventQueue.clear();
+        runner = new DispatchRunner(eventQueue, coalesce);
+        // The coordinate system applies the queued pans on each tick, so they do not build up between invocations.
+        runner.addClockTickObserver(coordinateSystem);
+        runner.addEventConsumer(coordinateSystem);
+        runner.addEventConsumer(units);
+        runner.addEventConsumer(new EscapeKeyAction(eventQueue));
+        runner.addEventConsumer(new ZoomKeyAction(eventQueue));
+        runner.addEventConsumer(new ArrowKeyAction(eventQueue));
+        runner.addEventConsumer(new MousePositionRenderer());
+        runner.addEventConsumer(new MouseSelectionRenderer());
+        runner.addEventConsumer(new MouseAction(eventQueue, units));
+        runner.addEventConsumer(new MouseZoomAction(eventQueue));
+
+        final Canvas source = new Canvas();
+        for (int i = 0; i < EVENTS; i++) {
+            if (i % 64 == 16) {
+                events[i] = new ZoomInEvent();
+            } else if (i % 64 == 32) {
+                events[i] = new ZoomOutEvent();
+            } else if (i % 64 == 48) {
+                events[i] = new UnitDeselectEvent();
+            } else if (i % 8 == 4) {
+                events[i] = new PanEvent(1, -1);
+            } else {
+                events[i] = new MouseEvent(new java.awt.event.MouseEvent(source, MOUSE_MOVED, 0, 0, i, i, 0, false));
+            }
+        }
+    }
+
+    /**
+     * Queue the burst of events and perform a tick, which consumes them.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void consumeEvents() {
+        for (final Event event : events) {
+            eventQueue.add(event);
+        }
+        runner.run();
+    }
+
+    /**
+     * A runner that performs a single tick on demand instead of running a game loop.
+     */
+    private static class DispatchRunner extends AbstractRunner {
+        @Nonnull
+        private final EventCoalescer eventCoalescer = new EventCoalescer();
+        private final boolean coalesce;
+
+        DispatchRunner(@Nonnull final EventQueue eventQueue, final boolean coalesce) {
+            super(eventQueue);
+            this.coalesce = coalesce;
+        }
+
+        @Override
+        public void start() {
+            setRunning(true);
+        }
+
+        @Override
+        public void run() {
+            tick();
+        }
+
+        @Override
+        protected void consumeEvents() {
+            if (coalesce) {
+                eventCoalescer.drain(getEventQueue(), this::dispatch);
+            } else {
+                super.consumeEvents();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mday.benchmark;
+
+import com.mday.event.Event;
+import com.mday.event.type.coordinate.PanEvent;
+import com.mday.game.EventQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Compares the ring buffer event queue against a linked blocking queue of the same capacity, the implementation the
+ * event queue used to extend. Three producer threads stand in for the windowing thread and the actions adding events,
+ * while a single consumer thread stands in for the game loop.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventQueueBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventQueueBenchmark.class);
+
+    private static final int PRODUCERS = 3;
+
+    // The same event is added repeatedly, so the results measure the queue rather than event allocation.
+    private static final Event EVENT = new PanEvent(1, 1);
+
+    @Nonnull
+    private final EventQueue ringQueue = new EventQueue();
+    @Nonnull
+    private final BlockingQueue<Event> linkedQueue = new LinkedBlockingQueue<>(ringQueue.getCapacity());
+
+    /**
+     * Add an event to the ring buffer queue.
+     *
+     * @return whether the event was added
+     */
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(PRODUCERS)
+    public boolean ringOffer() {
+        return ringQueue.offer(EVENT);
+    }
+
+    /**
+     * Drain the events from the ring buffer queue.
+     *
+     * @param blackhole receives the events so the work is not optimized away
+     * @return the number of events drained
+     */
+    @Benchmark
+    @Group("ring")
+    public int ringDrain(@Nonnull final Blackhole blackhole) {
+        return ringQueue.drain(blackhole::consume);
+    }
+
+    /**
+     * Add an event to the linked blocking queue.
+     *
+     * @return whether the event was added
+     */
+    @Benchmark
+    @Group("linked")
+    @GroupThreads(PRODUCERS)
+    public boolean linkedOffer() {
+        return linkedQueue.offer(EVENT);
+    }
+
+    /**
+     * Drain the events from the linked blocking queue, the way the game loop used to poll them.
+     *
+     * @param blackhole receives the events so the work is not optimized away
+     * @return the number of events drained
+     */
+    @Benchmark
+    @Group("linked")
+    public int linkedDrain(@Nonnull final Blackhole blackhole) {
+        int count = 0;
+        while (!linkedQueue.isEmpty()) {
+            final Event event = linkedQueue.poll();
+            if (event != null) {
+                blackhole.consume(event);
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,118 @@
+package com.mday.benchmark;
+
+import com.mday.model.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Measures the location arithmetic used throughout the simulation. The operations returning a new location allocate,
+ * while the primitive distance and containment checks used by the movement and culling code should not.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocationBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocationBenchmark.class);
+
+    // The fields are not final, so the JIT compiler cannot fold the arithmetic into constants.
+    @Nonnull
+    private Location location = new Location(123.5, -67.25);
+    @Nonnull
+    private Location other = new Location(-891.0, 402.75);
+    @Nonnull
+    private Location topLeft = new Location(-500, -500);
+    @Nonnull
+    private Location bottomRight = new Location(500, 500);
+    private double x = 17.5;
+    private double y = -3.25;
+
+    /**
+     * Add two locations.
+     *
+     * @return the sum of the locations
+     */
+    @Benchmark
+    @Nonnull
+    public Location add() {
+        return location.add(other);
+    }
+
+    /**
+     * Subtract one location from another.
+     *
+     * @return the difference between the locations
+     */
+    @Benchmark
+    @Nonnull
+    public Location subtract() {
+        return location.subtract(other);
+    }
+
+    /**
+     * Scale a location by a constant.
+     *
+     * @return the scaled location
+     */
+    @Benchmark
+    @Nonnull
+    public Location multiply() {
+        return location.multiply(x);
+    }
+
+    /**
+     * Normalize a location to a unit vector.
+     *
+     * @return the normalized location
+     */
+    @Benchmark
+    @Nonnull
+    public Location getNormalized() {
+        return location.getNormalized();
+    }
+
+    /**
+     * Calculate the distance between two locations.
+     *
+     * @return the distance between the locations
+     */
+    @Benchmark
+    public double getDistanceTo() {
+        return location.getDistanceTo(other);
+    }
+
+    /**
+     * Calculate the squared distance between a location and a point, without allocating.
+     *
+     * @return the squared distance between the location and the point
+     */
+    @Benchmark
+    public double distanceSquared() {
+        return location.distanceSquared(x, y);
+    }
+
+    /**
+     * Check whether a location is inside a rectangle.
+     *
+     * @return whether the location is inside the rectangle
+     */
+    @Benchmark
+    public boolean isInside() {
+        return location.isInside(topLeft, bottomRight);
+    }
+}
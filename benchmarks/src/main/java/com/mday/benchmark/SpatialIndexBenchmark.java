@@ -0,0 +1,95 @@
+package com.mday.benchmark;
+
+import com.mday.game.CoordinateSystem;
+import com.mday.game.SpatialIndex;
+import com.mday.model.Location;
+import com.mday.model.Ship;
+import com.mday.model.ShipClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Measures culling the units to the visible area, the way the unit renderer does each frame. Run with
+ * {@code -prof gc}: the bytes allocated per operation should not grow with the number of units found.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialIndexBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpatialIndexBenchmark.class);
+
+    // The size of the area over which the units are spread.
+    private static final double WORLD_SIZE = 20000;
+
+    @Param({"1000", "10000"})
+    private int unitCount;
+
+    @Nonnull
+    private final SpatialIndex spatialIndex = new SpatialIndex();
+    @Nonnull
+    private final CoordinateSystem coordinateSystem = new CoordinateSystem();
+    @Nonnull
+    private Location topLeft = new Location();
+    @Nonnull
+    private Location bottomRight = new Location();
+
+    /**
+     * Spread the units randomly over the world and set up a view over part of it.
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        for (int i = 0; i < unitCount; i++) {
+            final Location location = new Location(random.nextDouble() * WORLD_SIZE, random.nextDouble() * WORLD_SIZE);
+            spatialIndex.add(new Ship(String.valueOf(i), location, ShipClass.FIGHTER, ""));
+        }
+
+        coordinateSystem.setWidth(1920);
+        coordinateSystem.setHeight(1080);
+        coordinateSystem.setScale(0.25);
+        coordinateSystem.setCenter(new Location(WORLD_SIZE / 2, WORLD_SIZE / 2));
+        topLeft = coordinateSystem.getTopLeft();
+        bottomRight = coordinateSystem.getBottomRight();
+    }
+
+    /**
+     * Find the units overlapping the visible area.
+     *
+     * @param blackhole receives the units found so the work is not optimized away
+     */
+    @Benchmark
+    public void forEachInRect(@Nonnull final Blackhole blackhole) {
+        spatialIndex.forEachInRect(topLeft, bottomRight, blackhole::consume);
+    }
+
+    /**
+     * Check whether the units overlapping the visible area are contained in the view.
+     *
+     * @param blackhole receives the results so the work is not optimized away
+     */
+    @Benchmark
+    public void contains(@Nonnull final Blackhole blackhole) {
+        spatialIndex.forEachInRect(topLeft, bottomRight,
+                unit -> blackhole.consume(coordinateSystem.contains(unit.getX(), unit.getY(), unit.getRadius())));
+    }
+}
@@ -0,0 +1,96 @@
+package com.mday.benchmark;
+
+import com.mday.game.AbstractRunner;
+import com.mday.game.SpatialIndex;
+import com.mday.game.movement.UnitMover;
+import com.mday.model.Location;
+import com.mday.model.Ship;
+import com.mday.model.ShipClass;
+import com.mday.model.Unit;
+import com.mday.model.UnitStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Measures a single movement tick for a large group of moving units. Run with {@code -prof gc} and compare the
+ * {@code gc.alloc.rate.norm} results for the different unit counts: the bytes allocated per tick should not grow with
+ * the number of units, showing that no objects are created for each unit as it moves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitMoverBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnitMoverBenchmark.class);
+
+    // The units are sent far enough away that none of them arrive during the benchmark.
+    private static final Location DESTINATION = new Location(1e9, 1e9);
+
+    @Param({"1000", "10000", "100000"})
+    private int unitCount;
+
+    // Whether the unit state is held in a structure of arrays instead of in each unit.
+    @Param({"false", "true"})
+    private boolean useUnitStore;
+
+    // Whether the movement is split across the threads of the common fork-join pool.
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    // Index every unit in a single cell, so the results measure the movement itself. Units only occasionally cross into
+    // a new cell, which is the one point at which the index allocates.
+    @Nonnull
+    private final SpatialIndex spatialIndex = new SpatialIndex(Double.MAX_VALUE);
+    @Nonnull
+    private UnitMover unitMover = new UnitMover(spatialIndex);
+
+    /**
+     * Create the units and start moving them towards the destination as a group.
+     */
+    @Setup
+    public void setup() {
+        final UnitStore unitStore = useUnitStore ? new UnitStore(unitCount) : null;
+        unitMover = new UnitMover(spatialIndex, AbstractRunner.DEFAULT_TICK_RATE, unitStore);
+        unitMover.setParallelismThreshold(parallel ? UnitMover.DEFAULT_PARALLELISM_THRESHOLD : UnitMover.SEQUENTIAL);
+
+        final int columns = (int) Math.ceil(Math.sqrt(unitCount));
+        final List<Unit> units = new ArrayList<>(unitCount);
+        for (int i = 0; i < unitCount; i++) {
+            final Location location = new Location(i % columns * 40, i / columns * 40);
+            final Unit unit = new Ship(String.valueOf(i), location, ShipClass.FIGHTER, "");
+            if (unitStore != null) {
+                unitStore.attach(unit);
+            }
+            spatialIndex.add(unit);
+            units.add(unit);
+        }
+        unitMover.add(units, DESTINATION);
+    }
+
+    /**
+     * Move each of the units for a single simulation tick.
+     */
+    @Benchmark
+    public void tick() {
+        unitMover.tick();
+    }
+}
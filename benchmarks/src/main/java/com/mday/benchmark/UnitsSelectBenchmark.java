@@ -0,0 +1,94 @@
+package com.mday.benchmark;
+
+import com.mday.event.type.unit.UnitAddEvent;
+import com.mday.event.type.unit.UnitSelectEvent;
+import com.mday.game.AbstractRunner;
+import com.mday.game.CoordinateSystem;
+import com.mday.game.SpatialIndex;
+import com.mday.game.Units;
+import com.mday.game.movement.UnitMover;
+import com.mday.model.Location;
+import com.mday.model.Ship;
+import com.mday.model.ShipClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.geom.Point2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Measures a box selection drawn over the middle of the screen, covering roughly a quarter of the units. Each
+ * selection deselects the units chosen by the previous one before selecting the units inside the box.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitsSelectBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnitsSelectBenchmark.class);
+
+    // The size of the virtual screen over which the units are spread.
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    @Param({"1000", "10000"})
+    private int unitCount;
+
+    @Nonnull
+    private final CoordinateSystem coordinateSystem = new CoordinateSystem();
+    // Built by the setup, which runs before any benchmark method.
+    @Nullable
+    private Units units;
+    @Nonnull
+    private final UnitSelectEvent unitSelectEvent = new UnitSelectEvent(
+            new Point2D.Double(WIDTH / 4.0, HEIGHT / 4.0), new Point2D.Double(WIDTH * 3 / 4.0, HEIGHT * 3 / 4.0));
+
+    /**
+     * Spread the units randomly over the visible area of the screen.
+     */
+    @Setup
+    public void setup() {
+        coordinateSystem.setWidth(WIDTH);
+        coordinateSystem.setHeight(HEIGHT);
+        coordinateSystem.setScale(0.25);
+
+        final SpatialIndex spatialIndex = new SpatialIndex();
+        final UnitMover unitMover = new UnitMover(spatialIndex, AbstractRunner.DEFAULT_TICK_RATE);
+        units = new Units(coordinateSystem, unitMover, spatialIndex);
+
+        final Random random = new Random(0);
+        final Location topLeft = coordinateSystem.getTopLeft();
+        final Location bottomRight = coordinateSystem.getBottomRight();
+        for (int i = 0; i < unitCount; i++) {
+            final Location location = new Location(
+                    topLeft.getX() + random.nextDouble() * (bottomRight.getX() - topLeft.getX()),
+                    topLeft.getY() + random.nextDouble() * (bottomRight.getY() - topLeft.getY()));
+            units.accept(new UnitAddEvent(new Ship(String.valueOf(i), location, ShipClass.FIGHTER, "")));
+        }
+    }
+
+    /**
+     * Select the units inside the selection box.
+     */
+    @Benchmark
+    public void select() {
+        units.accept(unitSelectEvent);
+    }
+}
@@ -5,13 +5,18 @@ import com.mday.action.key.EscapeKeyAction;
 import com.mday.action.key.ZoomKeyAction;
 import com.mday.action.mouse.MouseAction;
 import com.mday.action.mouse.MouseZoomAction;
-import com.mday.event.type.unit.UnitAddEvent;
+import com.mday.event.type.unit.UnitBulkAddEvent;
 import com.mday.game.CoordinateSystem;
 import com.mday.game.EventQueue;
 import com.mday.game.Runner;
 import com.mday.game.movement.UnitMover;
+import com.mday.game.SpatialIndex;
 import com.mday.game.Units;
+import com.mday.metrics.FrameMetrics;
+import com.mday.ui.AssetManager;
 import com.mday.ui.Display;
+import com.mday.ui.LayerCache;
+import com.mday.ui.SurfaceTiles;
 import com.mday.ui.render.BackgroundRenderer;
 import com.mday.ui.render.MouseSelectionRenderer;
 import com.mday.ui.render.UnitRenderer;
@@ -23,7 +28,7 @@ import com.mday.model.Location;
 import com.mday.model.Ship;
 import com.mday.model.ShipClass;
 
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -35,32 +40,54 @@ import javax.annotation.Nullable;
  */
 public class Client {
     private static final boolean FULL_SCREEN = true;
+    private static final boolean ACTIVE_RENDERING = true;
+    // Drawing the units in parallel tiles is off until it is measured to be faster on multi-core machines, as the
+    // tiles only add the cost of copying them and of drawing units that overlap several tiles on a single core.
+    private static final boolean PARALLEL_RENDERING = false;
+    private static final int RENDER_TILE_COLUMNS = 4;
+    private static final int RENDER_TILE_ROWS = 4;
+    private static final int TICK_RATE = Runner.DEFAULT_TICK_RATE;
+    private static final int FRAME_RATE = Runner.DEFAULT_FRAME_RATE;
 
     /**
-     * Run the client.
-     *
-     * @throws IOException if there is a problem loading game resources.
+     * Run the client. Game resources are loaded in the background, and problems loading them are logged.
      */
-    public static void run() throws IOException {
+    public static void run() {
         final EventQueue eventQueue = new EventQueue();
 
+        // Start loading the game images in the background, so the display can be shown while they are decoded.
+        final AssetManager assetManager = new AssetManager();
+
+        // Publish the game loop timings so they can be monitored using JMX tools.
+        final FrameMetrics frameMetrics = new FrameMetrics();
+        frameMetrics.register();
+
         final CoordinateSystem coordinateSystem = new CoordinateSystem();
-        final UnitMover unitMover = new UnitMover();
-        final Units units = new Units(coordinateSystem, unitMover);
+        final SpatialIndex spatialIndex = new SpatialIndex();
+        final UnitMover unitMover = new UnitMover(spatialIndex, TICK_RATE);
+        unitMover.setParallelismThreshold(UnitMover.DEFAULT_PARALLELISM_THRESHOLD);
+        final Units units = new Units(coordinateSystem, unitMover, spatialIndex);
 
         final MousePositionRenderer mousePositionRenderer = new MousePositionRenderer();
         final MouseSelectionRenderer mouseSelectionRenderer = new MouseSelectionRenderer();
 
-        final Display display = new Display(FULL_SCREEN, eventQueue, coordinateSystem);
-        display.addSurfaceConsumer(new BackgroundRenderer());
-        display.addSurfaceConsumer(new UnitRenderer(units));
+        final Display display = new Display(FULL_SCREEN, ACTIVE_RENDERING, eventQueue, coordinateSystem, frameMetrics);
+        // The background and grid only change when the camera moves, so they are drawn from a cached image.
+        display.addSurfaceConsumer(new LayerCache(true, new BackgroundRenderer(), new GridRenderer()));
+        // With parallel rendering, the units are split into tiles that are drawn in parallel.
+        final SurfaceTiles surfaceTiles =
+                PARALLEL_RENDERING ? new SurfaceTiles(RENDER_TILE_COLUMNS, RENDER_TILE_ROWS) : null;
+        display.addSurfaceConsumer(new UnitRenderer(units, assetManager, surfaceTiles));
         display.addSurfaceConsumer(new ScaleRenderer());
-        display.addSurfaceConsumer(new GridRenderer());
         display.addSurfaceConsumer(new SelectedShipRenderer(units));
         display.addSurfaceConsumer(mousePositionRenderer);
         display.addSurfaceConsumer(mouseSelectionRenderer);
+        // Skip drawing frames while the camera is still, no units change and nothing moves.
+        display.addChangeSource(coordinateSystem);
+        display.addChangeSource(units);
+        display.addChangeSource(unitMover);
 
-        final Runner runner = new Runner(eventQueue, display);
+        final Runner runner = new Runner(eventQueue, display, TICK_RATE, FRAME_RATE, frameMetrics);
         runner.addClockTickObserver(coordinateSystem);
         runner.addClockTickObserver(unitMover);
         runner.addEventConsumer(coordinateSystem);
@@ -79,16 +106,18 @@ public class Client {
             ships.add(new Ship(shipClass.name(), new Location(), shipClass, "owner"));
         }
 
+        final List<Ship> placed = new ArrayList<>();
         final Iterator<Ship> shipIterator = ships.iterator();
         for (int r = 0; r < 5; r++) {
             for (int c = 0; c < 5; c++) {
                 if (shipIterator.hasNext()) {
                     final Ship ship = shipIterator.next();
                     ship.setLocation(new Location(-210 + c * 100, -140 + r * 90));
-                    eventQueue.add(new UnitAddEvent(ship));
+                    placed.add(ship);
                 }
             }
         }
+        eventQueue.add(new UnitBulkAddEvent(placed));
 
         runner.start();
     }
@@ -97,9 +126,8 @@ public class Client {
      * The entry-point into the game client.
      *
      * @param args the command-line arguments
-     * @throws IOException if there is a problem loading game resources
      */
-    public static void main(@Nullable final String... args) throws IOException {
+    public static void main(@Nullable final String... args) {
         Client.run();
     }
 }
@@ -0,0 +1,117 @@
+package com.mday;
+
+import com.mday.event.type.unit.UnitBulkAddEvent;
+import com.mday.event.type.unit.UnitMoveEvent;
+import com.mday.event.type.unit.UnitSelectEvent;
+import com.mday.game.AbstractRunner;
+import com.mday.game.CoordinateSystem;
+import com.mday.game.EventQueue;
+import com.mday.game.HeadlessRunner;
+import com.mday.game.SpatialIndex;
+import com.mday.game.Units;
+import com.mday.game.movement.UnitMover;
+import com.mday.model.Location;
+import com.mday.model.Ship;
+import com.mday.model.ShipClass;
+import com.mday.model.UnitStore;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Runs a simulated match without a display, for use on headless machines. No windowing classes are loaded, and the
+ * simulation ticks as fast as the CPU allows.
+ */
+public class HeadlessClient {
+    private static final int DEFAULT_UNITS = 1000;
+    private static final long DEFAULT_TICKS = 10000;
+
+    // The size of the virtual screen used to convert between screen points and game locations.
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+    private static final double SCALE = 0.25;
+
+    // How often all of the units are sent to a new destination.
+    private static final int MOVE_TICKS = 600;
+
+    /**
+     * Run a simulated match.
+     *
+     * @param unitCount the number of units to create
+     * @param ticks the number of simulation ticks to perform
+     * @param seed the seed for the random number generator that places the units and picks their destinations
+     * @return the runner used to perform the simulation, which holds the number of ticks performed per second
+     */
+    @Nonnull
+    public static HeadlessRunner run(final int unitCount, final long ticks, final long seed) {
+        // Make room for an add event for each of the units on top of the usual capacity.
+        final EventQueue eventQueue = new EventQueue(EventQueue.DEFAULT_CAPACITY + unitCount);
+
+        final CoordinateSystem coordinateSystem = new CoordinateSystem();
+        coordinateSystem.setWidth(WIDTH);
+        coordinateSystem.setHeight(HEIGHT);
+        coordinateSystem.setScale(SCALE);
+
+        // Keep the unit state in contiguous arrays, since large numbers of units are typically simulated.
+        final UnitStore unitStore = new UnitStore(Math.max(unitCount, 1));
+        final SpatialIndex spatialIndex = new SpatialIndex();
+        final UnitMover unitMover = new UnitMover(spatialIndex, AbstractRunner.DEFAULT_TICK_RATE, unitStore);
+        unitMover.setParallelismThreshold(UnitMover.DEFAULT_PARALLELISM_THRESHOLD);
+        final Units units = new Units(coordinateSystem, unitMover, spatialIndex, unitStore);
+
+        final HeadlessRunner runner = new HeadlessRunner(eventQueue, ticks);
+        runner.addClockTickObserver(coordinateSystem);
+        runner.addClockTickObserver(unitMover);
+        runner.addEventConsumer(coordinateSystem);
+        runner.addEventConsumer(units);
+
+        // Spread the units over the visible area of the virtual screen.
+        final Random random = new Random(seed);
+        final Location topLeft = coordinateSystem.getTopLeft();
+        final Location bottomRight = coordinateSystem.getBottomRight();
+        final ShipClass[] shipClasses = ShipClass.values();
+        final List<Ship> ships = new ArrayList<>(unitCount);
+        for (int i = 0; i < unitCount; i++) {
+            final Location location = new Location(
+                    topLeft.getX() + random.nextDouble() * (bottomRight.getX() - topLeft.getX()),
+                    topLeft.getY() + random.nextDouble() * (bottomRight.getY() - topLeft.getY()));
+            final ShipClass shipClass = shipClasses[i % shipClasses.length];
+            ships.add(new Ship(String.valueOf(i), location, shipClass, "owner"));
+        }
+        eventQueue.add(new UnitBulkAddEvent(ships));
+        eventQueue.add(new UnitSelectEvent(new Point2D.Double(0, 0), new Point2D.Double(WIDTH, HEIGHT)));
+
+        // Periodically send all of the selected units to a random point on the screen.
+        final AtomicLong tickCount = new AtomicLong();
+        runner.addClockTickObserver(() -> {
+            if (tickCount.getAndIncrement() % MOVE_TICKS == 0) {
+                final Point2D.Double destination =
+                        new Point2D.Double(random.nextDouble() * WIDTH, random.nextDouble() * HEIGHT);
+                eventQueue.add(new UnitMoveEvent(destination));
+            }
+        });
+
+        runner.start();
+        return runner;
+    }
+
+    /**
+     * The entry-point into the headless game client.
+     *
+     * @param args the optional number of units to create, followed by the optional number of ticks to perform
+     */
+    public static void main(@Nullable final String... args) {
+        // Make sure nothing attempts to open a window.
+        System.setProperty("java.awt.headless", "true");
+
+        final int unitCount = (args != null && args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_UNITS;
+        final long ticks = (args != null && args.length > 1) ? Long.parseLong(args[1]) : DEFAULT_TICKS;
+        HeadlessClient.run(unitCount, ticks, 0L);
+    }
+}
@@ -4,9 +4,11 @@ import static java.awt.event.KeyEvent.VK_DOWN;
 import static java.awt.event.KeyEvent.VK_LEFT;
 import static java.awt.event.KeyEvent.VK_RIGHT;
 import static java.awt.event.KeyEvent.VK_UP;
+import static java.util.Collections.unmodifiableSet;
 
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.coordinate.PanDownEvent;
 import com.mday.event.type.coordinate.PanLeftEvent;
 import com.mday.event.type.coordinate.PanRightEvent;
@@ -16,8 +18,8 @@ import com.mday.game.EventQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.EnumSet;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -28,6 +30,8 @@ import javax.annotation.Nullable;
 public class ArrowKeyAction implements EventConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ArrowKeyAction.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.KEY));
+
     @Nonnull
     private final EventQueue eventQueue;
 
@@ -56,14 +60,19 @@ public class ArrowKeyAction implements EventConsumer {
         }
     }
 
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
     @Override
     public void accept(@Nonnull final Event event) {
-        Stream.of(event)
-                .filter(e -> e instanceof KeyEvent)
-                .map(e -> (KeyEvent) e)
-                .map(ke -> ke.getKeyEvent().getID())
-                .map(this::toPanEvent)
-                .filter(Objects::nonNull)
-                .forEach(eventQueue::add);
+        if (event instanceof KeyEvent) {
+            final Event panEvent = toPanEvent(((KeyEvent) event).getKeyEvent().getID());
+            if (panEvent != null) {
+                eventQueue.add(panEvent);
+            }
+        }
     }
 }
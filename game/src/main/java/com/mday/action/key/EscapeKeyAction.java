@@ -1,16 +1,19 @@
 package com.mday.action.key;
 
 import static java.awt.Event.ESCAPE;
+import static java.util.Collections.unmodifiableSet;
 
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.game.QuitEvent;
 import com.mday.event.type.input.KeyEvent;
 import com.mday.game.EventQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.stream.Stream;
+import java.util.EnumSet;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 
@@ -20,6 +23,8 @@ import javax.annotation.Nonnull;
 public class EscapeKeyAction implements EventConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(EscapeKeyAction.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.KEY));
+
     @Nonnull
     private final EventQueue eventQueue;
 
@@ -32,14 +37,16 @@ public class EscapeKeyAction implements EventConsumer {
         this.eventQueue = eventQueue;
     }
 
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
     @Override
     public void accept(@Nonnull final Event event) {
-        Stream.of(event)
-                .filter(e -> e instanceof KeyEvent)
-                .map(e -> (KeyEvent) e)
-                .map(ke -> ke.getKeyEvent().getKeyCode())
-                .filter(keyCode -> keyCode == ESCAPE)
-                .map(keyCode -> new QuitEvent())
-                .forEach(eventQueue::add);
+        if (event instanceof KeyEvent && ((KeyEvent) event).getKeyEvent().getKeyCode() == ESCAPE) {
+            eventQueue.add(new QuitEvent());
+        }
     }
 }
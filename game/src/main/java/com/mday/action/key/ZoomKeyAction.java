@@ -1,9 +1,11 @@
 package com.mday.action.key;
 
 import static java.awt.event.KeyEvent.KEY_TYPED;
+import static java.util.Collections.unmodifiableSet;
 
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.coordinate.ZoomInEvent;
 import com.mday.event.type.coordinate.ZoomOutEvent;
 import com.mday.event.type.input.KeyEvent;
@@ -11,8 +13,8 @@ import com.mday.game.EventQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.EnumSet;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -23,6 +25,8 @@ import javax.annotation.Nullable;
 public class ZoomKeyAction implements EventConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ZoomKeyAction.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.KEY));
+
     @Nonnull
     private final EventQueue eventQueue;
 
@@ -45,15 +49,19 @@ public class ZoomKeyAction implements EventConsumer {
         return null;
     }
 
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
     @Override
     public void accept(@Nonnull final Event event) {
-        Stream.of(event)
-                .filter(e -> e instanceof KeyEvent)
-                .map(e -> (KeyEvent) e)
-                .filter(ke -> ke.getKeyEvent().getID() == KEY_TYPED)
-                .map(ke -> ke.getKeyEvent().getKeyChar())
-                .map(this::toZoomEvent)
-                .filter(Objects::nonNull)
-                .forEach(eventQueue::add);
+        if (event instanceof KeyEvent && ((KeyEvent) event).getKeyEvent().getID() == KEY_TYPED) {
+            final Event zoomEvent = toZoomEvent(((KeyEvent) event).getKeyEvent().getKeyChar());
+            if (zoomEvent != null) {
+                eventQueue.add(zoomEvent);
+            }
+        }
     }
 }
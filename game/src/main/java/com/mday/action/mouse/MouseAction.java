@@ -5,9 +5,11 @@ import static java.awt.event.MouseEvent.BUTTON3;
 import static java.awt.event.MouseEvent.MOUSE_DRAGGED;
 import static java.awt.event.MouseEvent.MOUSE_PRESSED;
 import static java.awt.event.MouseEvent.MOUSE_RELEASED;
+import static java.util.Collections.unmodifiableSet;
 
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.coordinate.PanEvent;
 import com.mday.event.type.input.MouseEvent;
 import com.mday.event.type.unit.UnitDeselectEvent;
@@ -19,6 +21,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.geom.Point2D;
+import java.util.EnumSet;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 
@@ -28,6 +32,8 @@ import javax.annotation.Nonnull;
 public class MouseAction implements EventConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(MouseAction.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.MOUSE));
+
     @Nonnull
     private final EventQueue eventQueue;
     @Nonnull
@@ -52,6 +58,12 @@ public class MouseAction implements EventConsumer {
         this.units = units;
     }
 
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
     @Override
     public void accept(@Nonnull final Event event) {
         if (event instanceof MouseEvent) {
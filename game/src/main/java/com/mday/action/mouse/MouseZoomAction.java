@@ -1,17 +1,21 @@
 package com.mday.action.mouse;
 
+import static java.util.Collections.unmodifiableSet;
+
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.coordinate.ZoomInEvent;
 import com.mday.event.type.coordinate.ZoomOutEvent;
 import com.mday.event.type.input.MouseWheelEvent;
 import com.mday.game.EventQueue;
-import com.mday.ui.Surface;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.awt.Window;
 import java.awt.geom.Point2D;
-import java.util.stream.Stream;
+import java.util.EnumSet;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 
@@ -21,6 +25,8 @@ import javax.annotation.Nonnull;
 public class MouseZoomAction implements EventConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(MouseZoomAction.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.MOUSE_WHEEL));
+
     @Nonnull
     private final EventQueue eventQueue;
 
@@ -41,14 +47,19 @@ public class MouseZoomAction implements EventConsumer {
         return (rotation > 0) ? new ZoomInEvent(point) : new ZoomOutEvent(point);
     }
 
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
     @Override
     public void accept(@Nonnull final Event event) {
-        Stream.of(event)
-                .filter(e -> e instanceof MouseWheelEvent)
-                .map(e -> (MouseWheelEvent) e)
-                // We only care about mouse wheel events that happen on the surface, not the frame.
-                .filter(e -> e.getMouseWheelEvent().getSource() instanceof Surface)
-                .map(this::toZoomEvent)
-                .forEach(eventQueue::add);
+        // We only care about mouse wheel events that happen on the component showing the game, which is either the
+        // canvas used for active rendering or the surface panel, not those sent to the frame around it.
+        if (event instanceof MouseWheelEvent
+                && !(((MouseWheelEvent) event).getMouseWheelEvent().getSource() instanceof Window)) {
+            eventQueue.add(toZoomEvent((MouseWheelEvent) event));
+        }
     }
 }
@@ -1,5 +1,8 @@
 package com.mday.event;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import javax.annotation.Nonnull;
 
 /**
@@ -13,4 +16,16 @@ public interface EventConsumer {
      * @param event the event to process
      */
     void accept(@Nonnull Event event);
+
+    /**
+     * Retrieve the types of events this consumer is interested in. Only events of these types are dispatched to this
+     * consumer. By default, all events are dispatched to the consumer. The types are read when the consumer is added,
+     * so implementations usually return a constant unmodifiable set.
+     *
+     * @return the types of events this consumer is interested in
+     */
+    @Nonnull
+    default Set<EventType> getEventTypes() {
+        return EnumSet.allOf(EventType.class);
+    }
 }
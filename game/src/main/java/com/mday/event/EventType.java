@@ -24,6 +24,16 @@ public enum EventType {
      */
     UNIT_REMOVE,
 
+    /**
+     * Indicates the creation of a batch of new units.
+     */
+    UNIT_BULK_ADD,
+
+    /**
+     * Indicates the removal of a batch of units.
+     */
+    UNIT_BULK_REMOVE,
+
     /**
      * Select units based on a rectangular region of the screen.
      */
@@ -14,6 +14,7 @@ import javax.annotation.Nullable;
 public class ZoomInEvent extends Event {
     @Nullable
     private final Point2D.Double point;
+    private final int steps;
 
     /**
      * Create an instance of this event.
@@ -28,8 +29,22 @@ public class ZoomInEvent extends Event {
      * @param point the mouse point to use as the focus when zooming in
      */
     public ZoomInEvent(@Nullable final Point2D.Double point) {
+        this(point, 1);
+    }
+
+    /**
+     * Create an instance of this event.
+     *
+     * @param point the mouse point to use as the focus when zooming in
+     * @param steps the number of zoom steps to perform, must be positive
+     */
+    public ZoomInEvent(@Nullable final Point2D.Double point, final int steps) {
         super(ZOOM_IN);
+        if (steps <= 0) {
+            throw new IllegalArgumentException("Zoom steps must be positive");
+        }
         this.point = point;
+        this.steps = steps;
     }
 
     /**
@@ -41,4 +56,13 @@ public class ZoomInEvent extends Event {
     public Point2D.Double getPoint() {
         return point;
     }
+
+    /**
+     * Retrieve the number of zoom steps to perform.
+     *
+     * @return the number of zoom steps to perform
+     */
+    public int getSteps() {
+        return steps;
+    }
 }
@@ -0,0 +1,41 @@
+package com.mday.event.type.unit;
+
+import static com.mday.event.EventType.UNIT_BULK_ADD;
+
+import com.mday.event.Event;
+import com.mday.model.Unit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An event indicating that a batch of units should be added together, such as when a scenario is loaded.
+ */
+public class UnitBulkAddEvent extends Event {
+    @Nonnull
+    private final List<Unit> units;
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param units the units to be added
+     */
+    public UnitBulkAddEvent(@Nonnull final Collection<? extends Unit> units) {
+        super(UNIT_BULK_ADD);
+        this.units = Collections.unmodifiableList(new ArrayList<>(units));
+    }
+
+    /**
+     * Retrieve the units to be added.
+     *
+     * @return an unmodifiable list of the units to be added
+     */
+    @Nonnull
+    public List<Unit> getUnits() {
+        return units;
+    }
+}
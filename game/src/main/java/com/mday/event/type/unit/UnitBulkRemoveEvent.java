@@ -0,0 +1,42 @@
+package com.mday.event.type.unit;
+
+import static com.mday.event.EventType.UNIT_BULK_REMOVE;
+
+import com.mday.event.Event;
+import com.mday.model.Unit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An event indicating that a batch of units should be removed together, such as when a scenario is unloaded or many
+ * units are destroyed at once.
+ */
+public class UnitBulkRemoveEvent extends Event {
+    @Nonnull
+    private final List<Unit> units;
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param units the units to be removed
+     */
+    public UnitBulkRemoveEvent(@Nonnull final Collection<? extends Unit> units) {
+        super(UNIT_BULK_REMOVE);
+        this.units = Collections.unmodifiableList(new ArrayList<>(units));
+    }
+
+    /**
+     * Retrieve the units to be removed.
+     *
+     * @return an unmodifiable list of the units to be removed
+     */
+    @Nonnull
+    public List<Unit> getUnits() {
+        return units;
+    }
+}
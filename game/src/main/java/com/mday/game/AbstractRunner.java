@@ -0,0 +1,233 @@
+package com.mday.game;
+
+import static java.util.Collections.unmodifiableSet;
+
+import com.mday.event.ClockTickObserver;
+import com.mday.event.Event;
+import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
+import com.mday.event.type.game.QuitEvent;
+import com.mday.metrics.FrameMetrics;
+import com.mday.metrics.Histogram;
+import com.mday.metrics.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The base class for runners that manage the game event loop, responsible for advancing the simulation by notifying
+ * the clock tick observers and dispatching queued events to the event consumers.
+ */
+public abstract class AbstractRunner implements Runnable, EventConsumer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractRunner.class);
+
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.QUIT));
+
+    /**
+     * The default number of simulation ticks performed each second.
+     */
+    public static final int DEFAULT_TICK_RATE = 60;
+
+    @Nonnull
+    private final EventQueue eventQueue;
+    @Nonnull
+    private final Queue<EventConsumer> eventConsumers;
+    // The event consumers subscribed to each type of event, indexed by the ordinal of the event type. Rebuilt whenever
+    // an event consumer is added so that dispatching an event only visits the consumers interested in it.
+    @Nonnull
+    private volatile EventConsumer[][] eventConsumersByType;
+    @Nonnull
+    private final Queue<Timed<ClockTickObserver>> clockTickObservers;
+
+    @Nonnull
+    private final FrameMetrics frameMetrics;
+    @Nonnull
+    private final Histogram tickHistogram;
+    @Nonnull
+    private final Histogram clockTickObserversHistogram;
+    @Nonnull
+    private final Histogram eventsHistogram;
+
+    private volatile boolean running = false;
+
+    /**
+     * Create an instance of this class, recording timings in frame metrics that are not published.
+     *
+     * @param eventQueue the event queue that has all of the events that need to be processed
+     */
+    protected AbstractRunner(@Nonnull final EventQueue eventQueue) {
+        this(eventQueue, new FrameMetrics());
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param eventQueue the event queue that has all of the events that need to be processed
+     * @param frameMetrics the metrics in which the duration of each phase of the game loop is recorded
+     */
+    protected AbstractRunner(@Nonnull final EventQueue eventQueue, @Nonnull final FrameMetrics frameMetrics) {
+        this.eventQueue = eventQueue;
+        this.eventConsumers = new ConcurrentLinkedQueue<>();
+        this.eventConsumers.add(this);
+        this.eventConsumersByType = indexEventConsumers(eventConsumers);
+        this.clockTickObservers = new ConcurrentLinkedQueue<>();
+        this.frameMetrics = frameMetrics;
+        this.tickHistogram = frameMetrics.getHistogram(FrameMetrics.TICK);
+        this.clockTickObserversHistogram = frameMetrics.getHistogram(FrameMetrics.CLOCK_TICK_OBSERVERS);
+        this.eventsHistogram = frameMetrics.getHistogram(FrameMetrics.EVENTS);
+    }
+
+    /**
+     * Retrieve the metrics in which the duration of each phase of the game loop is recorded.
+     *
+     * @return the metrics in which the duration of each phase of the game loop is recorded
+     */
+    @Nonnull
+    public FrameMetrics getFrameMetrics() {
+        return frameMetrics;
+    }
+
+    /**
+     * Retrieve the event queue that has all of the events that need to be processed.
+     *
+     * @return the event queue that has all of the events that need to be processed
+     */
+    @Nonnull
+    protected EventQueue getEventQueue() {
+        return eventQueue;
+    }
+
+    /**
+     * Add the provided event consumer.
+     *
+     * @param eventConsumer the event consumer that should receive game events
+     */
+    public synchronized void addEventConsumer(@Nonnull final EventConsumer eventConsumer) {
+        this.eventConsumers.add(eventConsumer);
+        this.eventConsumersByType = indexEventConsumers(eventConsumers);
+    }
+
+    /**
+     * Add the provided clock tick observer.
+     *
+     * @param clockTickObserver the clock tick observer that should receive notification of each clock tick
+     */
+    public void addClockTickObserver(@Nonnull final ClockTickObserver clockTickObserver) {
+        this.clockTickObservers.add(frameMetrics.time(FrameMetrics.CLOCK_TICK_OBSERVERS, clockTickObserver));
+    }
+
+    /**
+     * Start processing events in this runner.
+     */
+    public abstract void start();
+
+    /**
+     * Stop this runner.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Retrieve whether this runner is currently processing events.
+     *
+     * @return whether this runner is currently processing events
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Update whether this runner is currently processing events.
+     *
+     * @param running the new value indicating whether this runner is currently processing events
+     */
+    protected void setRunning(final boolean running) {
+        this.running = running;
+    }
+
+    /**
+     * Advance the simulation by a single tick, then process all of the queued events.
+     */
+    protected void tick() {
+        final long start = System.nanoTime();
+        notifyClockTickObservers();
+        final long observed = System.nanoTime();
+        consumeEvents();
+        final long end = System.nanoTime();
+
+        clockTickObserversHistogram.record(observed - start);
+        eventsHistogram.record(end - observed);
+        tickHistogram.record(end - start);
+    }
+
+    /**
+     * Handle an unexpected error in the game loop by quitting the game.
+     *
+     * @param exception the error that occurred
+     */
+    protected void handleError(@Nonnull final Exception exception) {
+        LOGGER.error("Error in main game loop", exception);
+        eventQueue.clear();
+        eventQueue.add(new QuitEvent());
+        consumeEvents();
+    }
+
+    private void notifyClockTickObservers() {
+        for (final Timed<ClockTickObserver> clockTickObserver : clockTickObservers) {
+            final long start = System.nanoTime();
+            clockTickObserver.getComponent().tick();
+            clockTickObserver.getHistogram().record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Remove each of the queued events and dispatch them to the event consumers.
+     */
+    protected void consumeEvents() {
+        eventQueue.drain(this::dispatch);
+    }
+
+    /**
+     * Dispatch an event to each of the event consumers subscribed to its type.
+     *
+     * @param event the event to dispatch
+     */
+    protected final void dispatch(@Nonnull final Event event) {
+        for (final EventConsumer consumer : eventConsumersByType[event.getType().ordinal()]) {
+            consumer.accept(event);
+        }
+    }
+
+    @Nonnull
+    private static EventConsumer[][] indexEventConsumers(@Nonnull final Collection<EventConsumer> eventConsumers) {
+        final EventType[] eventTypes = EventType.values();
+        final EventConsumer[][] index = new EventConsumer[eventTypes.length][];
+        for (final EventType eventType : eventTypes) {
+            index[eventType.ordinal()] = eventConsumers.stream()
+                    .filter(consumer -> consumer.getEventTypes().contains(eventType))
+                    .toArray(EventConsumer[]::new);
+        }
+        return index;
+    }
+
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public void accept(@Nonnull final Event event) {
+        if (event.getType() == EventType.QUIT) {
+            stop();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.mday.game;
+
+/**
+ * Defines the interface for state that is drawn on the display, so frames need only be drawn when it has changed.
+ */
+public interface ChangeSource {
+    /**
+     * Retrieve the version of this state, which increases each time the state changes in a way that could change
+     * how the game is drawn.
+     *
+     * @return the current version of this state
+     */
+    long getVersion();
+
+    /**
+     * Determine whether this state changes continuously between versions, such as units moving between simulation
+     * ticks, in which case every frame must be drawn.
+     *
+     * @return whether this state is currently changing between versions
+     */
+    default boolean isAnimating() {
+        return false;
+    }
+}
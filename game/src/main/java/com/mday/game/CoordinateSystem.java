@@ -1,8 +1,11 @@
 package com.mday.game;
 
+import static java.util.Collections.unmodifiableSet;
+
 import com.mday.event.ClockTickObserver;
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.coordinate.PanDownEvent;
 import com.mday.event.type.coordinate.PanEvent;
 import com.mday.event.type.coordinate.PanLeftEvent;
@@ -16,9 +19,12 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -26,9 +32,13 @@ import javax.annotation.Nullable;
 /**
  * Represents the display surface on which the game graphics will be drawn.
  */
-public class CoordinateSystem implements ClockTickObserver, EventConsumer {
+public class CoordinateSystem implements ClockTickObserver, EventConsumer, ChangeSource {
     private static final Logger LOGGER = LoggerFactory.getLogger(CoordinateSystem.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(
+            EventType.ZOOM_IN, EventType.ZOOM_OUT, EventType.PAN, EventType.PAN_UP, EventType.PAN_DOWN,
+            EventType.PAN_LEFT, EventType.PAN_RIGHT));
+
     private int width;
     private int height;
 
@@ -49,6 +59,9 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
     @Nonnull
     private Location center = new Location();
 
+    @Nonnull
+    private final AtomicLong version = new AtomicLong();
+
     /**
      * Retrieve the viewable width of the coordinate system in pixels.
      *
@@ -65,6 +78,7 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
      */
     public void setWidth(final int width) {
         this.width = width;
+        version.incrementAndGet();
     }
 
     /**
@@ -83,14 +97,23 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
      */
     public void setHeight(final int height) {
         this.height = height;
+        version.incrementAndGet();
+    }
+
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
     }
 
     @Override
     public void accept(@Nonnull final Event event) {
         if (event instanceof ZoomInEvent) {
-            zoomIn(((ZoomInEvent) event).getPoint());
+            final ZoomInEvent zoomInEvent = (ZoomInEvent) event;
+            zoomIn(zoomInEvent.getPoint(), zoomInEvent.getSteps());
         } else if (event instanceof ZoomOutEvent) {
-            zoomOut(((ZoomOutEvent) event).getPoint());
+            final ZoomOutEvent zoomOutEvent = (ZoomOutEvent) event;
+            zoomOut(zoomOutEvent.getPoint(), zoomOutEvent.getSteps());
         } else if (event instanceof PanEvent) {
             final PanEvent panEvent = (PanEvent) event;
             pan(panEvent.getDeltaX(), panEvent.getDeltaY());
@@ -105,8 +128,15 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
         }
     }
 
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
     @Override
     public void tick() {
+        final double previousScale = scale;
+        final Location previousCenter = center;
         if (Math.abs(scale - scaleGoal) > Math.abs(scaleIncrement / 2)) {
             final Location oldScalePointLocation = (scalePoint == null) ? null : toLocation(scalePoint);
 
@@ -134,6 +164,10 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
                 center = center.add(deltas.remove(0));
             }
         }
+
+        if (scale != previousScale || !center.equals(previousCenter)) {
+            version.incrementAndGet();
+        }
     }
 
     /**
@@ -152,6 +186,7 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
      */
     public void setScale(final double scale) {
         this.scale = this.scaleGoal = scale;
+        version.incrementAndGet();
     }
 
     /**
@@ -160,10 +195,20 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
      * @param point the point on the surface on which to zoom in
      */
     public void zoomIn(@Nullable final Point2D.Double point) {
+        zoomIn(point, 1);
+    }
+
+    /**
+     * Zoom in on the point indicated by the provided number of steps.
+     *
+     * @param point the point on the surface on which to zoom in
+     * @param steps the number of zoom steps to perform
+     */
+    public void zoomIn(@Nullable final Point2D.Double point, final int steps) {
         // Scale is the ratio of surface pixels to location points.
         // Zooming in means we want more pixels per location point.
-        // Increase scale by 33%
-        scaleGoal *= 3.0 / 2.0;
+        // Increase scale by 33% for each step
+        scaleGoal *= Math.pow(3.0 / 2.0, steps);
         scaleIncrement = (scaleGoal - scale) / SCALE_FRAMES;
         scalePoint = point;
     }
@@ -174,10 +219,20 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
      * @param point the point on the surface from which to zoom out
      */
     public void zoomOut(@Nullable final Point2D.Double point) {
+        zoomOut(point, 1);
+    }
+
+    /**
+     * Zoom out from the point indicated by the provided number of steps.
+     *
+     * @param point the point on the surface from which to zoom out
+     * @param steps the number of zoom steps to perform
+     */
+    public void zoomOut(@Nullable final Point2D.Double point, final int steps) {
         // Scale is the ratio of surface pixels to location points.
         // Zooming out means we want fewer pixels per location point.
-        // Decrease scale by 33%
-        scaleGoal *= 2.0 / 3.0;
+        // Decrease scale by 33% for each step
+        scaleGoal *= Math.pow(2.0 / 3.0, steps);
         scaleIncrement = (scaleGoal - scale) / SCALE_FRAMES;
         scalePoint = point;
     }
@@ -261,6 +316,7 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
      */
     public void setCenter(@Nonnull final Location center) {
         this.center = center;
+        version.incrementAndGet();
     }
 
     /**
@@ -362,10 +418,24 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
      * @return whether the current view area on the draw surface contains the specified location
      */
     public boolean contains(@Nonnull final Location location, final double radius) {
-        final Location topLeft = getTopLeft().subtract(radius, radius);
-        final Location bottomRight = getBottomRight().add(radius, radius);
-        return location.getX() >= topLeft.getX() && location.getX() <= bottomRight.getX()
-                && location.getY() >= topLeft.getY() && location.getY() <= bottomRight.getY();
+        return contains(location.getX(), location.getY(), radius);
+    }
+
+    /**
+     * Determine whether the current view area on the draw surface contains the specified coordinates, accounting for
+     * an area around the coordinates with the specified radius.
+     *
+     * @param x the X axis location to check for existence in the current view area of the draw surface
+     * @param y the Y axis location to check for existence in the current view area of the draw surface
+     * @param radius the radius describing the full area to check for existence within the viewable area
+     * @return whether the current view area on the draw surface contains the specified coordinates
+     */
+    public boolean contains(final double x, final double y, final double radius) {
+        // Use the same truncated half-extents as getTopLeft and getBottomRight without creating those locations.
+        final int halfWidth = (int) (width / scale / 2);
+        final int halfHeight = (int) (height / scale / 2);
+        return x >= center.getX() - halfWidth - radius && x <= center.getX() + halfWidth + radius
+                && y >= center.getY() - halfHeight - radius && y <= center.getY() + halfHeight + radius;
     }
 
     /**
@@ -381,6 +451,26 @@ public class CoordinateSystem implements ClockTickObserver, EventConsumer {
                 (height / 2.0) + (location.getY() - center.getY()) * getScale());
     }
 
+    /**
+     * Convert the specified X axis location into an X axis position on the surface, without creating a point.
+     *
+     * @param x the X axis location to convert
+     * @return the X axis position on the surface corresponding to the provided location
+     */
+    public double toPointX(final double x) {
+        return (width / 2.0) + (x - center.getX()) * getScale();
+    }
+
+    /**
+     * Convert the specified Y axis location into a Y axis position on the surface, without creating a point.
+     *
+     * @param y the Y axis location to convert
+     * @return the Y axis position on the surface corresponding to the provided location
+     */
+    public double toPointY(final double y) {
+        return (height / 2.0) + (y - center.getY()) * getScale();
+    }
+
     /**
      * Convert the specified surface point value into a game location.
      *
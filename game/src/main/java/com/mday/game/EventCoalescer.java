@@ -0,0 +1,142 @@
+package com.mday.game;
+
+import static java.awt.event.MouseEvent.MOUSE_DRAGGED;
+import static java.awt.event.MouseEvent.MOUSE_MOVED;
+
+import com.mday.event.Event;
+import com.mday.event.type.coordinate.PanEvent;
+import com.mday.event.type.coordinate.ZoomInEvent;
+import com.mday.event.type.coordinate.ZoomOutEvent;
+import com.mday.event.type.input.MouseEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Merges consecutive redundant events before they are dispatched, so a burst of input within a single frame costs no
+ * more to process than a single event:
+ *
+ * <ul>
+ *     <li>consecutive mouse move events, and consecutive mouse drag events with the same buttons held, are replaced by
+ *     the latest one,</li>
+ *     <li>consecutive pan events are replaced by a single pan by the sum of their deltas, and</li>
+ *     <li>consecutive zoom events in the same direction about the same point are replaced by a single zoom by the total
+ *     number of steps.</li>
+ * </ul>
+ *
+ * <p>Events are still dispatched in the order they were queued. This class is not thread-safe, and should only be
+ * used from the game loop thread.</p>
+ */
+public class EventCoalescer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventCoalescer.class);
+
+    // The most recent event, held back until it is known that the next event cannot be merged into it.
+    @Nullable
+    private Event pending;
+
+    /**
+     * Remove each of the events ready to be processed from the event queue, merge the redundant ones, and provide the
+     * remaining events to the consumer, including any events that are added by the consumer itself.
+     *
+     * @param eventQueue the event queue from which events will be removed
+     * @param consumer the consumer to receive the events
+     * @return the number of events that were provided to the consumer
+     */
+    public int drain(@Nonnull final EventQueue eventQueue, @Nonnull final Consumer<? super Event> consumer) {
+        int count = 0;
+        do {
+            Event event = eventQueue.poll();
+            while (event != null) {
+                count += offer(event, consumer);
+                event = eventQueue.poll();
+            }
+            // The consumer may add more events while processing the last pending event.
+            count += flush(consumer);
+        } while (!eventQueue.isEmpty());
+        return count;
+    }
+
+    private int offer(@Nonnull final Event event, @Nonnull final Consumer<? super Event> consumer) {
+        final Event previous = pending;
+        if (previous != null) {
+            final Event merged = merge(previous, event);
+            if (merged != null) {
+                pending = merged;
+                return 0;
+            }
+        }
+        pending = event;
+        if (previous != null) {
+            consumer.accept(previous);
+            return 1;
+        }
+        return 0;
+    }
+
+    private int flush(@Nonnull final Consumer<? super Event> consumer) {
+        final Event previous = pending;
+        if (previous == null) {
+            return 0;
+        }
+        pending = null;
+        consumer.accept(previous);
+        return 1;
+    }
+
+    /**
+     * Merge two consecutive events into a single event with the same effect.
+     *
+     * @param first the event that was queued first
+     * @param second the event that was queued immediately after the first
+     * @return the merged event, or {@code null} if the events cannot be merged
+     */
+    @CheckForNull
+    static Event merge(@Nonnull final Event first, @Nonnull final Event second) {
+        if (first.getType() != second.getType()) {
+            return null;
+        }
+
+        if (first instanceof MouseEvent && second instanceof MouseEvent) {
+            final java.awt.event.MouseEvent firstMouseEvent = ((MouseEvent) first).getMouseEvent();
+            final java.awt.event.MouseEvent secondMouseEvent = ((MouseEvent) second).getMouseEvent();
+            return isSameMotion(firstMouseEvent, secondMouseEvent) ? second : null;
+        } else if (first instanceof PanEvent && second instanceof PanEvent) {
+            final PanEvent firstPanEvent = (PanEvent) first;
+            final PanEvent secondPanEvent = (PanEvent) second;
+            return new PanEvent(
+                    firstPanEvent.getDeltaX() + secondPanEvent.getDeltaX(),
+                    firstPanEvent.getDeltaY() + secondPanEvent.getDeltaY());
+        } else if (first instanceof ZoomInEvent && second instanceof ZoomInEvent) {
+            final ZoomInEvent firstZoomEvent = (ZoomInEvent) first;
+            final ZoomInEvent secondZoomEvent = (ZoomInEvent) second;
+            if (Objects.equals(firstZoomEvent.getPoint(), secondZoomEvent.getPoint())) {
+                return new ZoomInEvent(
+                        secondZoomEvent.getPoint(), firstZoomEvent.getSteps() + secondZoomEvent.getSteps());
+            }
+        } else if (first instanceof ZoomOutEvent && second instanceof ZoomOutEvent) {
+            final ZoomOutEvent firstZoomEvent = (ZoomOutEvent) first;
+            final ZoomOutEvent secondZoomEvent = (ZoomOutEvent) second;
+            if (Objects.equals(firstZoomEvent.getPoint(), secondZoomEvent.getPoint())) {
+                return new ZoomOutEvent(
+                        secondZoomEvent.getPoint(), firstZoomEvent.getSteps() + secondZoomEvent.getSteps());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSameMotion(
+            @Nonnull final java.awt.event.MouseEvent first, @Nonnull final java.awt.event.MouseEvent second) {
+        if (first.getSource() != second.getSource() || first.getID() != second.getID()) {
+            return false;
+        }
+        // Only the latest position of a move or drag matters, as long as the same buttons and keys are held down.
+        return (first.getID() == MOUSE_MOVED || first.getID() == MOUSE_DRAGGED)
+                && first.getModifiersEx() == second.getModifiersEx() && first.getButton() == second.getButton();
+    }
+}
@@ -2,20 +2,235 @@ package com.mday.game;
 
 import com.mday.event.Event;
 import com.mday.event.type.game.StartEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
- * Holds all of the events that need to be processed.
+ * Holds all of the events that need to be processed, in a bounded lock-free ring buffer. Any number of threads may add
+ * events, but only the game loop thread may remove them using {@link #poll()}, {@link #drain(Consumer)} or
+ * {@link #clear()}.
+ *
+ * <p>Producers claim a slot by advancing the tail sequence and then publish the event into the slot. The consumer
+ * takes events from the head sequence in order, and stops at a claimed slot whose event has not yet been published,
+ * which is picked up on the next drain.</p>
+ *
+ * <p>The ring buffer holds at most {@link #getCapacity()} events. {@link #offer(Event)} respects that bound and
+ * returns {@code false} when the queue is full. {@link #add(Event)} never fails: events added while the ring buffer is
+ * full, such as during a burst of input while the game loop is stalled, are held in an unbounded overflow queue and
+ * processed after the events already in the ring buffer, so no event such as a quit request is ever lost.</p>
  */
-public class EventQueue extends LinkedBlockingQueue<Event> {
-    private static final long serialVersionUID = 1L;
+public class EventQueue extends AbstractQueue<Event> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventQueue.class);
 
     /**
-     * Create an instance of this event queue.
+     * The default maximum number of events that can be waiting to be processed.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    @Nonnull
+    private final AtomicReferenceArray<Event> buffer;
+    private final int mask;
+
+    // The sequence of the next slot to be claimed by a producer.
+    @Nonnull
+    private final AtomicLong tail = new AtomicLong();
+    // The sequence of the next slot to be read by the consumer, only advanced by the consumer.
+    @Nonnull
+    private final AtomicLong head = new AtomicLong();
+
+    // The events added while the ring buffer was full. While any are waiting, new events are also added here so that
+    // the events from each producer stay in order.
+    @Nonnull
+    private final ConcurrentLinkedQueue<Event> overflow = new ConcurrentLinkedQueue<>();
+    @Nonnull
+    private final AtomicInteger overflowSize = new AtomicInteger();
+
+    /**
+     * Create an instance of this event queue with the default capacity.
      */
     public EventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create an instance of this event queue.
+     *
+     * @param capacity the maximum number of events that can be waiting to be processed, rounded up to a power of two
+     */
+    public EventQueue(final int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be positive and at most 2^30");
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        buffer = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+
         // Add a start event so we immediately have something to process.
         add(new StartEvent());
     }
+
+    /**
+     * Retrieve the maximum number of events that can be waiting to be processed.
+     *
+     * @return the maximum number of events that can be waiting to be processed
+     */
+    public int getCapacity() {
+        return buffer.length();
+    }
+
+    /**
+     * Add an event to this queue, holding it in the overflow queue if the ring buffer is full. This method may be
+     * called from any thread, and never throws an exception because the queue is full.
+     *
+     * @param event the event to add
+     * @return always {@code true}
+     */
+    @Override
+    public boolean add(@Nullable final Event event) {
+        if (offer(event)) {
+            return true;
+        }
+        if (overflowSize.getAndIncrement() == 0) {
+            LOGGER.warn("Event queue is full, holding events in the overflow queue");
+        }
+        overflow.add(event);
+        return true;
+    }
+
+    /**
+     * Add an event to this queue if there is room for it in the ring buffer. This method may be called from any
+     * thread.
+     *
+     * @param event the event to add
+     * @return whether the event was added, which is {@code false} when the queue is full or is still holding events
+     * in the overflow queue
+     */
+    @Override
+    public boolean offer(@Nullable final Event event) {
+        if (event == null) {
+            throw new NullPointerException("Events cannot be null");
+        }
+        if (overflowSize.get() > 0) {
+            return false;
+        }
+
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() >= buffer.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        buffer.lazySet(index(sequence), event);
+        return true;
+    }
+
+    /**
+     * Remove the next event from this queue. This method may only be called from the consuming thread.
+     *
+     * @return the next event, or {@code null} if there are no events ready to be processed
+     */
+    @Override
+    @CheckForNull
+    public Event poll() {
+        final long sequence = head.get();
+        final int index = index(sequence);
+        final Event event = buffer.get(index);
+        if (event != null) {
+            // Free the slot before advancing the head, so producers never see a free slot that still holds an event.
+            buffer.lazySet(index, null);
+            head.lazySet(sequence + 1);
+            return event;
+        }
+        if (overflowSize.get() == 0) {
+            return null;
+        }
+        final Event overflowEvent = overflow.poll();
+        if (overflowEvent != null) {
+            overflowSize.decrementAndGet();
+        }
+        return overflowEvent;
+    }
+
+    /**
+     * Retrieve the next event without removing it from this queue.
+     *
+     * @return the next event, or {@code null} if there are no events ready to be processed
+     */
+    @Override
+    @CheckForNull
+    public Event peek() {
+        final Event event = buffer.get(index(head.get()));
+        return event != null || overflowSize.get() == 0 ? event : overflow.peek();
+    }
+
+    /**
+     * Remove each of the events ready to be processed and provide them to the consumer, including any events that are
+     * added by the consumer itself. This method may only be called from the consuming thread.
+     *
+     * @param consumer the consumer to receive the events
+     * @return the number of events that were provided to the consumer
+     */
+    public int drain(@Nonnull final Consumer<? super Event> consumer) {
+        int count = 0;
+        Event event = poll();
+        while (event != null) {
+            consumer.accept(event);
+            count++;
+            event = poll();
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    @Override
+    public int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, buffer.length())) + overflowSize.get();
+    }
+
+    /**
+     * Retrieve an iterator over a snapshot of the events currently in this queue. The iterator does not support
+     * removal.
+     *
+     * @return an iterator over a snapshot of the events currently in this queue
+     */
+    @Override
+    @Nonnull
+    public Iterator<Event> iterator() {
+        final List<Event> events = new ArrayList<>();
+        final long end = tail.get();
+        for (long sequence = head.get(); sequence < end; sequence++) {
+            final Event event = buffer.get(index(sequence));
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        events.addAll(overflow);
+        return Collections.unmodifiableList(events).iterator();
+    }
+
+    private int index(final long sequence) {
+        return (int) sequence & mask;
+    }
 }
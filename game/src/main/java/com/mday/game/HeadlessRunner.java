@@ -0,0 +1,96 @@
+package com.mday.game;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Responsible for managing the game event loop without a display. Simulation ticks are performed back-to-back as fast
+ * as the CPU allows, rather than at a fixed rate, which makes this runner suitable for running simulated matches in
+ * batch on machines without a screen.
+ */
+public class HeadlessRunner extends AbstractRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessRunner.class);
+
+    // How often the current tick rate is logged while running.
+    private static final long REPORT_PERIOD = SECONDS.toNanos(5);
+
+    private final long maxTicks;
+
+    private long ticks = 0;
+    private long elapsed = 0;
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param eventQueue the event queue that has all of the events that need to be processed
+     * @param maxTicks the number of simulation ticks to perform before stopping, unless the game quits first
+     */
+    public HeadlessRunner(@Nonnull final EventQueue eventQueue, final long maxTicks) {
+        super(eventQueue);
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Start processing events in this runner. Unlike the display runner, the simulation is performed on the calling
+     * thread, and this method does not return until the runner is stopped or the maximum number of ticks is reached.
+     */
+    @Override
+    public void start() {
+        setRunning(true);
+        run();
+    }
+
+    @Override
+    public void run() {
+        final long startTime = System.nanoTime();
+        long reportTime = startTime;
+        long reportTicks = 0;
+        while (isRunning() && ticks < maxTicks) {
+            try {
+                tick();
+                ticks++;
+            } catch (final Exception exception) {
+                handleError(exception);
+            }
+
+            final long now = System.nanoTime();
+            if (now - reportTime >= REPORT_PERIOD) {
+                LOGGER.info("Running at {} ticks per second", getTicksPerSecond(ticks - reportTicks, now - reportTime));
+                reportTime = now;
+                reportTicks = ticks;
+            }
+        }
+        elapsed = System.nanoTime() - startTime;
+        setRunning(false);
+
+        LOGGER.info("Performed {} ticks in {} ms ({} ticks per second)", ticks, NANOSECONDS.toMillis(elapsed),
+                getTicksPerSecond());
+    }
+
+    /**
+     * Retrieve the number of simulation ticks that have been performed.
+     *
+     * @return the number of simulation ticks that have been performed
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Retrieve the average number of simulation ticks performed each second during the last run.
+     *
+     * @return the average number of simulation ticks performed each second during the last run
+     */
+    public long getTicksPerSecond() {
+        return getTicksPerSecond(ticks, elapsed);
+    }
+
+    private static long getTicksPerSecond(final long ticks, final long nanos) {
+        return nanos == 0 ? 0 : (long) (ticks * (double) SECONDS.toNanos(1) / nanos);
+    }
+}
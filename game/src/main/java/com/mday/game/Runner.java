@@ -3,128 +3,171 @@ package com.mday.game;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
-import com.mday.event.ClockTickObserver;
-import com.mday.event.Event;
-import com.mday.event.EventConsumer;
-import com.mday.event.EventType;
-import com.mday.event.type.game.QuitEvent;
+import com.mday.metrics.FrameMetrics;
+import com.mday.metrics.Histogram;
 import com.mday.ui.Display;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.annotation.Nonnull;
 
 /**
- * Responsible for managing the game event loop.
+ * Responsible for managing the game event loop. The simulation is advanced in fixed-length ticks using an
+ * accumulator, independently of the rate at which frames are rendered, so slow frames do not slow down the game.
+ * Redundant input events queued within a tick are merged before they are dispatched.
  */
-public class Runner implements Runnable, EventConsumer {
+public class Runner extends AbstractRunner {
     private static final Logger LOGGER = LoggerFactory.getLogger(Runner.class);
 
-    private static final int TARGET_FPS = 60;
+    /**
+     * The default number of frames rendered each second.
+     */
+    public static final int DEFAULT_FRAME_RATE = 60;
+
+    // The maximum number of simulation ticks to catch up on before rendering a frame. Any additional backlog is
+    // dropped so that a slow frame cannot cause a spiral of ever-increasing catch-up work.
+    private static final int MAX_TICKS_PER_FRAME = 5;
 
-    @Nonnull
-    private final EventQueue eventQueue;
     @Nonnull
     private final Display display;
+    private final long tickPeriod;
+    private final long framePeriod;
 
     @Nonnull
-    private final ScheduledExecutorService scheduledExecutorService;
+    private final ExecutorService executorService;
     @Nonnull
-    private final Queue<EventConsumer> eventConsumers;
+    private final EventCoalescer eventCoalescer = new EventCoalescer();
     @Nonnull
-    private final Queue<ClockTickObserver> clockTickObservers;
-
-    private ScheduledFuture<?> scheduledFuture = null;
+    private final Histogram frameHistogram;
+    @Nonnull
+    private final Histogram renderHistogram;
 
     /**
-     * Create an instance of this class.
+     * Create an instance of this class using the default tick and frame rates.
      *
      * @param eventQueue the event queue that has all of the events that need to be processed
      * @param display the display on which the game will be drawn
      */
     public Runner(@Nonnull final EventQueue eventQueue, @Nonnull final Display display) {
-        this.eventQueue = eventQueue;
-        this.display = display;
-        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
-        this.eventConsumers = new ConcurrentLinkedQueue<>();
-        this.eventConsumers.add(this);
-        this.clockTickObservers = new ConcurrentLinkedQueue<>();
+        this(eventQueue, display, DEFAULT_TICK_RATE, DEFAULT_FRAME_RATE);
     }
 
     /**
-     * Add the provided event consumer.
+     * Create an instance of this class.
      *
-     * @param eventConsumer the event consumer that should receive game events
+     * @param eventQueue the event queue that has all of the events that need to be processed
+     * @param display the display on which the game will be drawn
+     * @param tickRate the number of simulation ticks to perform each second
+     * @param frameRate the number of frames to render each second
      */
-    public void addEventConsumer(@Nonnull final EventConsumer eventConsumer) {
-        this.eventConsumers.add(eventConsumer);
+    public Runner(
+            @Nonnull final EventQueue eventQueue, @Nonnull final Display display, final int tickRate,
+            final int frameRate) {
+        this(eventQueue, display, tickRate, frameRate, new FrameMetrics());
     }
 
     /**
-     * Add the provided clock tick observer.
+     * Create an instance of this class.
      *
-     * @param clockTickObserver the clock tick observer that should receive notification of each clock tick
+     * @param eventQueue the event queue that has all of the events that need to be processed
+     * @param display the display on which the game will be drawn
+     * @param tickRate the number of simulation ticks to perform each second
+     * @param frameRate the number of frames to render each second
+     * @param frameMetrics the metrics in which the duration of each phase of the game loop is recorded
      */
-    public void addClockTickObserver(@Nonnull final ClockTickObserver clockTickObserver) {
-        this.clockTickObservers.add(clockTickObserver);
+    public Runner(
+            @Nonnull final EventQueue eventQueue, @Nonnull final Display display, final int tickRate,
+            final int frameRate, @Nonnull final FrameMetrics frameMetrics) {
+        super(eventQueue, frameMetrics);
+        if (tickRate <= 0 || frameRate <= 0) {
+            throw new IllegalArgumentException("Tick and frame rates must be positive");
+        }
+        this.display = display;
+        this.tickPeriod = SECONDS.toNanos(1) / tickRate;
+        this.framePeriod = SECONDS.toNanos(1) / frameRate;
+        this.executorService = Executors.newSingleThreadExecutor();
+        this.frameHistogram = frameMetrics.getHistogram(FrameMetrics.FRAME);
+        this.renderHistogram = frameMetrics.getHistogram(FrameMetrics.RENDER);
     }
 
-    /**
-     * Start processing events in this runner.
-     */
+    @Override
     public void start() {
-        final long period = SECONDS.toNanos(1) / TARGET_FPS;
-        scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(this, 0L, period, NANOSECONDS);
+        setRunning(true);
+        executorService.execute(this);
     }
 
-    /**
-     * Stop this runner.
-     */
+    @Override
     public void stop() {
-        scheduledFuture.cancel(false);
-        scheduledExecutorService.shutdown();
+        super.stop();
+        executorService.shutdown();
     }
 
     @Override
     public void run() {
-        try {
-            notifyClockTickObservers();
-            consumeEvents();
-            updateDisplay();
-        } catch (final Exception exception) {
-            LOGGER.error("Error in main game loop", exception);
-            eventQueue.clear();
-            eventQueue.add(new QuitEvent());
-            consumeEvents();
-        }
-    }
-
-    private void notifyClockTickObservers() {
-        clockTickObservers.forEach(ClockTickObserver::tick);
-    }
-
-    private void consumeEvents() {
-        while (!eventQueue.isEmpty()) {
-            Optional.ofNullable(eventQueue.poll())
-                    .ifPresent(event -> eventConsumers.forEach(consumer -> consumer.accept(event)));
+        // Start with a full tick in the accumulator so the start event is processed before the first frame is drawn.
+        long accumulator = tickPeriod;
+        long previousTime = System.nanoTime();
+        while (isRunning()) {
+            final long frameStart = System.nanoTime();
+            accumulator += frameStart - previousTime;
+            previousTime = frameStart;
+
+            boolean rendered = false;
+            try {
+                int ticks = 0;
+                while (isRunning() && accumulator >= tickPeriod && ticks < MAX_TICKS_PER_FRAME) {
+                    tick();
+                    accumulator -= tickPeriod;
+                    ticks++;
+                }
+                if (accumulator >= tickPeriod) {
+                    // The simulation is unable to keep up, so drop the backlog rather than trying to catch up on it.
+                    LOGGER.debug("Dropping {} simulation ticks", accumulator / tickPeriod);
+                    accumulator %= tickPeriod;
+                }
+                if (isRunning()) {
+                    // Render the fraction of the way between the last two simulation states that has elapsed.
+                    final long renderStart = System.nanoTime();
+                    rendered = updateDisplay((double) accumulator / tickPeriod);
+                    if (rendered) {
+                        renderHistogram.record(System.nanoTime() - renderStart);
+                    }
+                }
+            } catch (final Exception exception) {
+                handleError(exception);
+            }
+
+            final long frameTime = System.nanoTime() - frameStart;
+            frameHistogram.record(frameTime);
+            if (rendered && isRunning()) {
+                display.completeFrame(frameTime, framePeriod);
+            }
+            if (frameTime > framePeriod && LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Frame took {} us, over the budget of {} us", NANOSECONDS.toMicros(frameTime),
+                        NANOSECONDS.toMicros(framePeriod));
+            }
+
+            final long remaining = frameStart + framePeriod - System.nanoTime();
+            if (isRunning() && remaining > 0) {
+                LockSupport.parkNanos(remaining);
+            }
         }
     }
 
-    private void updateDisplay() {
-        display.render();
+    /**
+     * Remove each of the queued events and dispatch them to the event consumers, merging redundant input events so
+     * that fast mouse movement and repeated zooming do not increase the amount of work performed each tick.
+     */
+    @Override
+    protected void consumeEvents() {
+        eventCoalescer.drain(getEventQueue(), this::dispatch);
     }
 
-    @Override
-    public void accept(@Nonnull final Event event) {
-        if (event.getType() == EventType.QUIT) {
-            stop();
-        }
+    private boolean updateDisplay(final double interpolation) {
+        return display.render(interpolation);
     }
 }
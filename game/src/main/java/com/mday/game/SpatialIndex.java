@@ -0,0 +1,248 @@
+package com.mday.game;
+
+import com.mday.model.Location;
+import com.mday.model.Unit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Indexes units by location using a uniform grid, so that area queries only need to examine the units in the grid
+ * cells overlapping the area instead of every known unit.
+ */
+public class SpatialIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpatialIndex.class);
+
+    /**
+     * The default width and height of each grid cell, in location points.
+     */
+    public static final double DEFAULT_CELL_SIZE = 100;
+
+    private final double cellSize;
+
+    @Nonnull
+    private final ConcurrentHashMap<Long, Set<Unit>> cells = new ConcurrentHashMap<>();
+    @Nonnull
+    private final ConcurrentHashMap<Unit, Long> cellByUnit = new ConcurrentHashMap<>();
+
+    // The largest radius of any unit that has been indexed. Units are indexed by their center location, so queries
+    // expand their search area by this amount to find units that only partially overlap the area.
+    private volatile double maxRadius = 0;
+
+    /**
+     * Create an instance of this class using the default cell size.
+     */
+    public SpatialIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param cellSize the width and height of each grid cell, in location points
+     */
+    public SpatialIndex(final double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Add a unit to this index based on its current location.
+     *
+     * @param unit the unit to add
+     */
+    public void add(@Nonnull final Unit unit) {
+        remove(unit);
+        if (unit.getRadius() > maxRadius) {
+            maxRadius = unit.getRadius();
+        }
+        final long key = getKey(unit.getX(), unit.getY());
+        addToCell(key, unit);
+        cellByUnit.put(unit, key);
+    }
+
+    /**
+     * Add a batch of units to this index based on their current locations. The units are grouped by grid cell first,
+     * so each cell is only updated once for the whole batch.
+     *
+     * @param units the units to add
+     */
+    public void addAll(@Nonnull final Collection<? extends Unit> units) {
+        final Map<Long, List<Unit>> unitsByCell = new HashMap<>();
+        for (final Unit unit : units) {
+            if (unit.getRadius() > maxRadius) {
+                maxRadius = unit.getRadius();
+            }
+            final long key = getKey(unit.getX(), unit.getY());
+            final Long previousKey = cellByUnit.put(unit, key);
+            if (previousKey != null) {
+                removeFromCell(previousKey, unit);
+            }
+            unitsByCell.computeIfAbsent(key, ignored -> new ArrayList<>()).add(unit);
+        }
+        unitsByCell.forEach((key, cellUnits) -> cells.compute(key, (ignored, existing) -> {
+            final Set<Unit> cell = (existing == null) ? ConcurrentHashMap.newKeySet(cellUnits.size()) : existing;
+            cell.addAll(cellUnits);
+            return cell;
+        }));
+    }
+
+    /**
+     * Remove a unit from this index.
+     *
+     * @param unit the unit to remove
+     */
+    public void remove(@Nonnull final Unit unit) {
+        final Long key = cellByUnit.remove(unit);
+        if (key != null) {
+            removeFromCell(key, unit);
+        }
+    }
+
+    /**
+     * Update the position of a unit within this index after the unit has moved. Units that remain within the same
+     * grid cell require no changes to the index.
+     *
+     * @param unit the unit that has moved
+     */
+    public void update(@Nonnull final Unit unit) {
+        final Long previousKey = cellByUnit.get(unit);
+        if (previousKey == null) {
+            return;
+        }
+        final long key = getKey(unit.getX(), unit.getY());
+        if (previousKey != key) {
+            removeFromCell(previousKey, unit);
+            addToCell(key, unit);
+            cellByUnit.put(unit, key);
+        }
+    }
+
+    /**
+     * Retrieve the number of units in this index.
+     *
+     * @return the number of units in this index
+     */
+    public int size() {
+        return cellByUnit.size();
+    }
+
+    /**
+     * Retrieve the units with an area overlapping the provided bounding box.
+     *
+     * @param topLeft     the top-left location of the bounding box
+     * @param bottomRight the bottom-right location of the bounding box
+     * @return the units with an area overlapping the bounding box
+     */
+    @Nonnull
+    public List<Unit> queryRect(@Nonnull final Location topLeft, @Nonnull final Location bottomRight) {
+        final List<Unit> found = new ArrayList<>();
+        forEachInRect(topLeft, bottomRight, found::add);
+        return found;
+    }
+
+    /**
+     * Retrieve the units with an area overlapping the provided circle.
+     *
+     * @param center the center location of the circle
+     * @param radius the radius of the circle
+     * @return the units with an area overlapping the circle
+     */
+    @Nonnull
+    public List<Unit> queryRadius(@Nonnull final Location center, final double radius) {
+        final List<Unit> found = new ArrayList<>();
+        final Location topLeft = center.subtract(radius, radius);
+        final Location bottomRight = center.add(radius, radius);
+        forEachCandidate(topLeft, bottomRight, unit -> {
+            final double reach = radius + unit.getRadius();
+            if (center.distanceSquared(unit.getX(), unit.getY()) <= reach * reach) {
+                found.add(unit);
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Provide each of the units with an area overlapping the provided bounding box to the consumer.
+     *
+     * @param topLeft     the top-left location of the bounding box
+     * @param bottomRight the bottom-right location of the bounding box
+     * @param consumer    the consumer to receive the units with an area overlapping the bounding box
+     */
+    public void forEachInRect(
+            @Nonnull final Location topLeft, @Nonnull final Location bottomRight,
+            @Nonnull final Consumer<Unit> consumer) {
+        forEachCandidate(topLeft, bottomRight, unit -> {
+            if (unit.isInside(topLeft, bottomRight)) {
+                consumer.accept(unit);
+            }
+        });
+    }
+
+    private void forEachCandidate(
+            @Nonnull final Location topLeft, @Nonnull final Location bottomRight,
+            @Nonnull final Consumer<Unit> consumer) {
+        final double reach = maxRadius;
+        final long minX = getCell(topLeft.getX() - reach);
+        final long minY = getCell(topLeft.getY() - reach);
+        final long maxX = getCell(bottomRight.getX() + reach);
+        final long maxY = getCell(bottomRight.getY() + reach);
+
+        if ((double) (maxX - minX + 1) * (maxY - minY + 1) > cells.size()) {
+            // The area covers more cells than are occupied, which happens when zoomed far out, so check each of the
+            // occupied cells against the area instead of looking up each of the cells in the area.
+            cells.forEach((key, units) -> {
+                final long cellX = key >> 32;
+                final long cellY = (int) (long) key;
+                if (cellX >= minX && cellX <= maxX && cellY >= minY && cellY <= maxY) {
+                    units.forEach(consumer);
+                }
+            });
+        } else {
+            for (long cellX = minX; cellX <= maxX; cellX++) {
+                for (long cellY = minY; cellY <= maxY; cellY++) {
+                    final Set<Unit> units = cells.get(toKey(cellX, cellY));
+                    if (units != null) {
+                        units.forEach(consumer);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addToCell(final long key, @Nonnull final Unit unit) {
+        cells.compute(key, (ignored, units) -> {
+            final Set<Unit> cell = (units == null) ? ConcurrentHashMap.newKeySet() : units;
+            cell.add(unit);
+            return cell;
+        });
+    }
+
+    private void removeFromCell(final long key, @Nonnull final Unit unit) {
+        cells.computeIfPresent(key, (ignored, units) -> {
+            units.remove(unit);
+            return units.isEmpty() ? null : units;
+        });
+    }
+
+    private long getCell(final double coordinate) {
+        return (long) Math.floor(coordinate / cellSize);
+    }
+
+    private long getKey(final double x, final double y) {
+        return toKey(getCell(x), getCell(y));
+    }
+
+    private static long toKey(final long cellX, final long cellY) {
+        return (cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
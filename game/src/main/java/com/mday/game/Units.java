@@ -1,29 +1,43 @@
 package com.mday.game;
 
+import static com.mday.model.UnitType.SHIP;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.unit.UnitAddEvent;
+import com.mday.event.type.unit.UnitBulkAddEvent;
+import com.mday.event.type.unit.UnitBulkRemoveEvent;
 import com.mday.event.type.unit.UnitDeselectEvent;
 import com.mday.event.type.unit.UnitMoveEvent;
 import com.mday.event.type.unit.UnitRemoveEvent;
 import com.mday.event.type.unit.UnitSelectEvent;
 import com.mday.game.movement.UnitMover;
 import com.mday.model.Location;
+import com.mday.model.SelectionObserver;
+import com.mday.model.Ship;
+import com.mday.model.ShipClass;
 import com.mday.model.Unit;
+import com.mday.model.UnitStore;
 import com.mday.model.UnitType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -31,30 +45,72 @@ import javax.annotation.Nullable;
 /**
  * Manages the units that are known in the game as a mapping between unique unit id and unit.
  */
-public class Units implements EventConsumer {
+public class Units implements EventConsumer, ChangeSource {
     private static final Logger LOGGER = LoggerFactory.getLogger(Units.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(
+            EventType.UNIT_ADD, EventType.UNIT_REMOVE, EventType.UNIT_BULK_ADD, EventType.UNIT_BULK_REMOVE,
+            EventType.UNIT_SELECT, EventType.UNIT_DESELECT, EventType.UNIT_MOVE));
+
     @Nonnull
     private final CoordinateSystem coordinateSystem;
     @Nonnull
     private final UnitMover unitMover;
+    @Nonnull
+    private final SpatialIndex spatialIndex;
+    @Nullable
+    private final UnitStore unitStore;
 
     @Nonnull
     private final ConcurrentHashMap<String, Unit> byId = new ConcurrentHashMap<>();
     @Nonnull
     private final ConcurrentHashMap<UnitType, ConcurrentSkipListSet<Unit>> byType = new ConcurrentHashMap<>();
 
-    private boolean unitsSelected = false;
+    // The number of selected ships of each ship class, without entries for ship classes with none selected.
+    @Nonnull
+    private final ConcurrentHashMap<ShipClass, Integer> selectedShipClasses = new ConcurrentHashMap<>();
+
+    // The selected units, which only change when a unit is selected, deselected, added or removed so selection queries
+    // do not scan all of the units.
+    @Nonnull
+    private final ConcurrentSkipListSet<Unit> selected = new ConcurrentSkipListSet<>();
+    // Set on each known unit, so the selection is kept up to date however a unit is selected or deselected.
+    @Nonnull
+    private final SelectionObserver selectionObserver = this::selectionChanged;
+
+    // Increased each time units are added, removed, selected or deselected.
+    @Nonnull
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Create an instance of this class.
      *
      * @param coordinateSystem the coordinate system used to manage locations on the draw surface
      * @param unitMover        the mover responsible for relocating units
+     * @param spatialIndex     the index used to find units by location
      */
-    public Units(@Nonnull final CoordinateSystem coordinateSystem, @Nonnull final UnitMover unitMover) {
+    public Units(
+            @Nonnull final CoordinateSystem coordinateSystem, @Nonnull final UnitMover unitMover,
+            @Nonnull final SpatialIndex spatialIndex) {
+        this(coordinateSystem, unitMover, spatialIndex, null);
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param coordinateSystem the coordinate system used to manage locations on the draw surface
+     * @param unitMover        the mover responsible for relocating units
+     * @param spatialIndex     the index used to find units by location
+     * @param unitStore        the store to hold the state of the units that are added, or {@code null} to have the
+     *                         units hold their own state
+     */
+    public Units(
+            @Nonnull final CoordinateSystem coordinateSystem, @Nonnull final UnitMover unitMover,
+            @Nonnull final SpatialIndex spatialIndex, @Nullable final UnitStore unitStore) {
         this.coordinateSystem = coordinateSystem;
         this.unitMover = unitMover;
+        this.spatialIndex = spatialIndex;
+        this.unitStore = unitStore;
     }
 
     /**
@@ -68,13 +124,27 @@ public class Units implements EventConsumer {
     }
 
     /**
-     * Retrieve a collection of all the selected units.
+     * Retrieve a collection of all the selected units. The collection is an unmodifiable live view of the selection
+     * rather than a copy, so it reflects later changes to the selection. Iterating it while the selection changes does
+     * not fail, but may or may not include the changes, so callers that need the selection at one point in time should
+     * copy it.
      *
      * @return a collection of all the selected units
      */
     @Nonnull
     public Collection<Unit> getSelected() {
-        return getAll().stream().filter(Unit::isSelected).collect(toList());
+        return Collections.unmodifiableCollection(selected);
+    }
+
+    /**
+     * Retrieve the number of selected ships of a ship class. The counts are kept up to date as units are added,
+     * removed, selected and deselected, so this does not scan the units.
+     *
+     * @param shipClass the class of ship for which the selected ships should be counted
+     * @return the number of selected ships of the ship class
+     */
+    public int getSelectedCount(@Nonnull final ShipClass shipClass) {
+        return selectedShipClasses.getOrDefault(shipClass, 0);
     }
 
     /**
@@ -99,43 +169,208 @@ public class Units implements EventConsumer {
         return Optional.<Set<Unit>>ofNullable(byType.get(type)).orElseGet(Collections::emptySet);
     }
 
+    /**
+     * Retrieve the units with an area overlapping the provided bounding box.
+     *
+     * @param topLeft     the top-left location of the bounding box
+     * @param bottomRight the bottom-right location of the bounding box
+     * @return the units with an area overlapping the bounding box
+     */
+    @Nonnull
+    public List<Unit> queryRect(@Nonnull final Location topLeft, @Nonnull final Location bottomRight) {
+        return spatialIndex.queryRect(topLeft, bottomRight);
+    }
+
+    /**
+     * Provide each of the units with an area overlapping the provided bounding box to the consumer, without collecting
+     * them into a list first.
+     *
+     * @param topLeft     the top-left location of the bounding box
+     * @param bottomRight the bottom-right location of the bounding box
+     * @param consumer    the consumer to receive the units with an area overlapping the bounding box
+     */
+    public void forEachInRect(
+            @Nonnull final Location topLeft, @Nonnull final Location bottomRight,
+            @Nonnull final Consumer<Unit> consumer) {
+        spatialIndex.forEachInRect(topLeft, bottomRight, consumer);
+    }
+
+    /**
+     * Retrieve the units with an area overlapping the provided circle.
+     *
+     * @param center the center location of the circle
+     * @param radius the radius of the circle
+     * @return the units with an area overlapping the circle
+     */
+    @Nonnull
+    public List<Unit> queryRadius(@Nonnull final Location center, final double radius) {
+        return spatialIndex.queryRadius(center, radius);
+    }
+
     /**
      * Whether any units are currently selected.
      *
      * @return whether any units are currently selected
      */
     public boolean isUnitsSelected() {
-        return unitsSelected;
+        return !selected.isEmpty();
+    }
+
+    /**
+     * Add a batch of units, such as when a scenario is loaded. This is faster than adding the units one at a time: the
+     * units of each type are sorted and inserted together, the spatial index updates each grid cell once, and the
+     * version of the units only increases once for the whole batch.
+     *
+     * @param added the units to add
+     */
+    public void addAll(@Nonnull final Collection<? extends Unit> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        final UnitStore store = unitStore;
+        final Map<UnitType, List<Unit>> addedByType = new EnumMap<>(UnitType.class);
+        for (final Unit unit : added) {
+            if (store != null) {
+                store.attach(unit);
+            }
+            // Start out with no movement to interpolate.
+            unit.snapshot();
+            addById(unit);
+            addedByType.computeIfAbsent(unit.getUnitType(), ignored -> new ArrayList<>()).add(unit);
+        }
+        // Inserting in order keeps each skip list search close to the previous insertion.
+        addedByType.forEach((unitType, sorted) -> {
+            sorted.sort(null);
+            byType.computeIfAbsent(unitType, ignored -> new ConcurrentSkipListSet<>()).addAll(sorted);
+        });
+        spatialIndex.addAll(added);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Remove a batch of units, increasing the version of the units only once for the whole batch.
+     *
+     * @param removed the units to remove
+     */
+    public void removeAll(@Nonnull final Collection<? extends Unit> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        final UnitStore store = unitStore;
+        for (final Unit unit : removed) {
+            removeById(unit);
+            final Set<Unit> sameType = byType.get(unit.getUnitType());
+            if (sameType != null) {
+                sameType.remove(unit);
+            }
+            spatialIndex.remove(unit);
+            if (store != null) {
+                store.detach(unit);
+            }
+        }
+        version.incrementAndGet();
+    }
+
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
     }
 
     @Override
     public void accept(@Nonnull final Event event) {
         if (event instanceof UnitAddEvent) {
             final UnitAddEvent unitAddEvent = (UnitAddEvent) event;
-            unitsSelected |= unitAddEvent.getUnit().isSelected();
-            byId.put(unitAddEvent.getUnit().getId(), unitAddEvent.getUnit());
+            ofNullable(unitStore).ifPresent(store -> store.attach(unitAddEvent.getUnit()));
+            // Start out with no movement to interpolate.
+            unitAddEvent.getUnit().snapshot();
+            addById(unitAddEvent.getUnit());
             byType.computeIfAbsent(unitAddEvent.getUnit().getUnitType(), ignored -> new ConcurrentSkipListSet<>())
                     .add(unitAddEvent.getUnit());
+            spatialIndex.add(unitAddEvent.getUnit());
+            version.incrementAndGet();
         } else if (event instanceof UnitRemoveEvent) {
             final UnitRemoveEvent unitRemoveEvent = (UnitRemoveEvent) event;
-            byId.remove(unitRemoveEvent.getUnit().getId());
+            removeById(unitRemoveEvent.getUnit());
             ofNullable(byType.get(unitRemoveEvent.getUnit().getUnitType()))
                     .ifPresent(set -> set.remove(unitRemoveEvent.getUnit()));
-            unitsSelected = getAll().stream().anyMatch(Unit::isSelected);
+            spatialIndex.remove(unitRemoveEvent.getUnit());
+            ofNullable(unitStore).ifPresent(store -> store.detach(unitRemoveEvent.getUnit()));
+            version.incrementAndGet();
+        } else if (event instanceof UnitBulkAddEvent) {
+            addAll(((UnitBulkAddEvent) event).getUnits());
+        } else if (event instanceof UnitBulkRemoveEvent) {
+            removeAll(((UnitBulkRemoveEvent) event).getUnits());
         } else if (event instanceof UnitSelectEvent) {
             final UnitSelectEvent unitSelectionEvent = (UnitSelectEvent) event;
             final Location topLeft = coordinateSystem.toLocation(unitSelectionEvent.getTopLeft());
             final Location botRight = coordinateSystem.toLocation(unitSelectionEvent.getBottomRight());
-            getAll().forEach(unit ->
-                    unit.setSelected(unit.getLocation().isInside(topLeft, botRight, unit.getRadius())));
-            unitsSelected = getAll().stream().anyMatch(Unit::isSelected);
+            final List<Unit> inside = spatialIndex.queryRect(topLeft, botRight);
+            selected.forEach(unit -> unit.setSelected(false));
+            inside.forEach(unit -> unit.setSelected(true));
         } else if (event instanceof UnitDeselectEvent) {
-            getAll().forEach(unit -> unit.setSelected(false));
-            unitsSelected = false;
+            selected.forEach(unit -> unit.setSelected(false));
         } else if (event instanceof UnitMoveEvent) {
             final UnitMoveEvent unitMoveEvent = (UnitMoveEvent) event;
-            final List<Unit> selectedMovable = getSelected().stream().filter(Unit::isMovable).collect(toList());
-            unitMover.add(selectedMovable, coordinateSystem.toLocation(unitMoveEvent.getDestination()));
+            // Whether a unit is movable can change while it is selected, so it is checked when the move is made.
+            final List<Unit> selectedMovable = new ArrayList<>();
+            for (final Unit unit : selected) {
+                if (unit.isMovable()) {
+                    selectedMovable.add(unit);
+                }
+            }
+            final Location destination = coordinateSystem.toLocation(unitMoveEvent.getDestination());
+            unitMover.add(selectedMovable, destination);
+        }
+    }
+
+    private void addById(@Nonnull final Unit unit) {
+        // A unit that is already known is only counted as selected once.
+        if (byId.put(unit.getId(), unit) == null) {
+            unit.setSelectionObserver(selectionObserver);
+            if (unit.isSelected()) {
+                addSelected(unit);
+            }
+        }
+    }
+
+    private void removeById(@Nonnull final Unit unit) {
+        if (byId.remove(unit.getId()) != null) {
+            unit.setSelectionObserver(null);
+            if (unit.isSelected()) {
+                removeSelected(unit);
+            }
+        }
+    }
+
+    private void selectionChanged(@Nonnull final Unit unit, final boolean select) {
+        if (select) {
+            addSelected(unit);
+        } else {
+            removeSelected(unit);
+        }
+        version.incrementAndGet();
+    }
+
+    private void addSelected(@Nonnull final Unit unit) {
+        selected.add(unit);
+        countSelected(unit, 1);
+    }
+
+    private void removeSelected(@Nonnull final Unit unit) {
+        selected.remove(unit);
+        countSelected(unit, -1);
+    }
+
+    private void countSelected(@Nonnull final Unit unit, final int change) {
+        if (unit.getUnitType() == SHIP) {
+            selectedShipClasses.merge(((Ship) unit).getShipClass(), change,
+                    (count, ignored) -> count + change == 0 ? null : count + change);
         }
     }
 }
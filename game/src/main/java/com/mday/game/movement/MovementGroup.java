@@ -5,17 +5,22 @@ import static java.util.Collections.singleton;
 import com.mday.model.Unit;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nonnull;
 
 /**
- * Provides information about a group of units moving as a cohesive group in the same direction and speed.
+ * Provides information about a group of units moving as a cohesive group in the same direction and speed. The units
+ * in a group may be moved by multiple threads at once, so traverse completion is tracked in a thread-safe way.
  */
 public class MovementGroup {
     @Nonnull
-    private final Map<Unit, Boolean> traverseCompletionMap;
+    private final ConcurrentMap<Unit, Boolean> traverseCompletionMap;
+    // The number of units in this group that have not yet completed traversing.
+    @Nonnull
+    private final AtomicInteger remainingTraverses;
 
     /**
      * Create a movement group for a single unit.
@@ -32,8 +37,9 @@ public class MovementGroup {
      * @param units the units within this group
      */
     public MovementGroup(@Nonnull final Collection<Unit> units) {
-        traverseCompletionMap = new HashMap<>();
+        traverseCompletionMap = new ConcurrentHashMap<>(units.size());
         units.forEach(unit -> traverseCompletionMap.put(unit, false));
+        remainingTraverses = new AtomicInteger(traverseCompletionMap.size());
     }
 
     /**
@@ -42,7 +48,11 @@ public class MovementGroup {
      * @param unit the unit to update
      */
     public void setTraverseCompleted(@Nonnull final Unit unit) {
-        traverseCompletionMap.put(unit, true);
+        // Only the first completion for each unit changes the map, so units that keep reporting completion each tick
+        // do not contend with each other.
+        if (traverseCompletionMap.replace(unit, false, true)) {
+            remainingTraverses.decrementAndGet();
+        }
     }
 
     /**
@@ -51,6 +61,6 @@ public class MovementGroup {
      * @return whether all the units in this group have completed traversing
      */
     public boolean allTraversesComplete() {
-        return traverseCompletionMap.values().stream().allMatch(bool -> bool);
+        return remainingTraverses.get() == 0;
     }
 }
@@ -1,37 +1,195 @@
 package com.mday.game.movement;
 
 import com.mday.event.ClockTickObserver;
+import com.mday.game.ChangeSource;
+import com.mday.game.SpatialIndex;
 import com.mday.model.Location;
 import com.mday.model.Unit;
+import com.mday.model.UnitStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * This class is responsible for moving units.
  */
-public class UnitMover implements ClockTickObserver {
+public class UnitMover implements ClockTickObserver, ChangeSource {
     private static final Logger LOGGER = LoggerFactory.getLogger(UnitMover.class);
 
+    /**
+     * The parallelism threshold that keeps all movement on the calling thread.
+     */
+    public static final long SEQUENTIAL = Long.MAX_VALUE;
+
+    /**
+     * A parallelism threshold suited to large fleets, below which splitting the work costs more than it saves.
+     */
+    public static final long DEFAULT_PARALLELISM_THRESHOLD = 1024;
+
+    @Nonnull
+    private final SpatialIndex spatialIndex;
+    @Nullable
+    private final UnitStore unitStore;
     @Nonnull
     private final ConcurrentHashMap<Unit, Movement> moving = new ConcurrentHashMap<>();
+    // Units that arrived at their destination during the last tick, which still need their previous state updated.
+    @Nonnull
+    private final Queue<Unit> arrived = new ConcurrentLinkedQueue<>();
 
+    // The tick rate for which the movement, acceleration, and traverse speeds of the units were tuned.
+    private static final double BASE_TICK_RATE = 60;
     private static final double MOVEMENT_FACTOR = 1.0 / 30;
     private static final double TWO_PI = 2 * Math.PI;
     private static final double TWENTY_DEGREES = 20 * Math.PI / 180;
+    // Once at least this fraction of the units in the store are moving, snapshot the whole store at once.
+    private static final int BULK_SNAPSHOT_DIVISOR = 4;
+    // Once at least this fraction of the units in the store are moving, find them by scanning the store in handle
+    // order, otherwise iterate over the moving units directly to avoid looking up every stored unit.
+    private static final int HANDLE_ORDER_DIVISOR = 2;
+
+    // Scales the per-tick movement so units move at the same speed regardless of the tick rate.
+    private final double tickScale;
+
+    private volatile long parallelismThreshold = SEQUENTIAL;
+
+    // Increased on each tick in which units are moved or arrive.
+    @Nonnull
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Create an instance of this class using the default simulation tick rate.
+     *
+     * @param spatialIndex the index to keep up-to-date as units change location
+     */
+    public UnitMover(@Nonnull final SpatialIndex spatialIndex) {
+        this(spatialIndex, BASE_TICK_RATE);
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param spatialIndex the index to keep up-to-date as units change location
+     * @param tickRate the number of simulation ticks performed each second
+     */
+    public UnitMover(@Nonnull final SpatialIndex spatialIndex, final double tickRate) {
+        this(spatialIndex, tickRate, null);
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param spatialIndex the index to keep up-to-date as units change location
+     * @param tickRate the number of simulation ticks performed each second
+     * @param unitStore the store holding the state of all the units that will be moved, or {@code null} if the units
+     * hold their own state
+     */
+    public UnitMover(
+            @Nonnull final SpatialIndex spatialIndex, final double tickRate, @Nullable final UnitStore unitStore) {
+        this.spatialIndex = spatialIndex;
+        this.unitStore = unitStore;
+        this.tickScale = BASE_TICK_RATE / tickRate;
+    }
+
+    /**
+     * Retrieve the number of moving units at which each movement phase is split across the threads of the common
+     * fork-join pool.
+     *
+     * @return the number of moving units at which movement is performed in parallel
+     */
+    public long getParallelismThreshold() {
+        return parallelismThreshold;
+    }
+
+    /**
+     * Set the number of moving units at which each movement phase is split across the threads of the common fork-join
+     * pool. Use {@link #SEQUENTIAL} to always move the units on the calling thread.
+     *
+     * @param parallelismThreshold the number of moving units at which movement is performed in parallel
+     */
+    public void setParallelismThreshold(final long parallelismThreshold) {
+        if (parallelismThreshold <= 0) {
+            throw new IllegalArgumentException("Parallelism threshold must be positive");
+        }
+        this.parallelismThreshold = parallelismThreshold;
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Determine whether any units are moving, or arrived during the last tick, so their drawn locations change
+     * between ticks as they are interpolated.
+     *
+     * @return whether any units are moving
+     */
+    @Override
+    public boolean isAnimating() {
+        return !moving.isEmpty() || !arrived.isEmpty();
+    }
 
     @Override
     public void tick() {
-        moving.forEach(this::move);
+        if (isAnimating()) {
+            version.incrementAndGet();
+        }
+
+        // Units are moved in two phases, with all the units turned before any of them advance. Traverse completion is
+        // only updated in the first phase, so every unit in a group sees the same completion state in the second
+        // phase, regardless of the order in which the units are visited or how they are split across threads.
+        final long threshold = parallelismThreshold;
+        final UnitStore store = unitStore;
+        if (store != null && !moving.isEmpty() && moving.size() >= store.size() / BULK_SNAPSHOT_DIVISOR) {
+            // With a large share of the units moving, copying the contiguous state arrays is cheaper than visiting
+            // each of the moving and arrived units.
+            arrived.clear();
+            store.snapshot();
+            if (moving.size() < threshold) {
+                // Visit the units sequentially, scanning the store in handle order when enough of them are moving.
+                forEachInHandleOrder(store, this::turn);
+                forEachInHandleOrder(store, this::advance);
+                return;
+            }
+        } else {
+            while (!arrived.isEmpty()) {
+                arrived.remove().snapshot();
+            }
+            moving.keySet().forEach(Unit::snapshot);
+        }
+        moving.forEach(threshold, this::turn);
+        moving.forEach(threshold, this::advance);
+    }
+
+    private void forEachInHandleOrder(
+            @Nonnull final UnitStore store, @Nonnull final BiConsumer<Unit, Movement> consumer) {
+        if (moving.size() < store.size() / HANDLE_ORDER_DIVISOR) {
+            moving.forEach(consumer);
+            return;
+        }
+        for (int handle = 0; handle < store.size(); handle++) {
+            final Unit unit = store.getUnit(handle);
+            final Movement movement = moving.get(unit);
+            if (movement != null) {
+                consumer.accept(unit, movement);
+            }
+        }
     }
 
     private void updateUnitDirection(@Nonnull final Unit unit, @Nonnull final Movement movement) {
-        final Location direction = movement.getDestination().subtract(unit.getLocation()).getNormalized();
-        final double radians = (Math.PI / 2) + Math.atan2(direction.getY(), direction.getX());
+        final double traverseSpeed = unit.getTraverseSpeed() * tickScale;
+        final Location destination = movement.getDestination();
+        final double radians =
+                (Math.PI / 2) + Math.atan2(destination.getY() - unit.getY(), destination.getX() - unit.getX());
         double deltaRadians = unit.getDirection() - radians;
         if (Math.abs(deltaRadians) > Math.PI && deltaRadians < 0) {
             deltaRadians += TWO_PI;
@@ -41,17 +199,17 @@ public class UnitMover implements ClockTickObserver {
 
         if (Math.abs(deltaRadians) > TWENTY_DEGREES) {
             if (deltaRadians < 0) {
-                unit.setDirection(unit.getDirection() + unit.getTraverseSpeed());
+                unit.setDirection(unit.getDirection() + traverseSpeed);
             } else {
-                unit.setDirection(unit.getDirection() - unit.getTraverseSpeed());
+                unit.setDirection(unit.getDirection() - traverseSpeed);
             }
-        } else if (Math.abs(deltaRadians) < unit.getTraverseSpeed()) {
+        } else if (Math.abs(deltaRadians) < traverseSpeed) {
             unit.setDirection(radians % TWO_PI);
             movement.getMovementGroup().setTraverseCompleted(unit);
         } else if (deltaRadians < 0) {
-            unit.setDirection(unit.getDirection() + unit.getTraverseSpeed());
+            unit.setDirection(unit.getDirection() + traverseSpeed);
         } else {
-            unit.setDirection(unit.getDirection() - unit.getTraverseSpeed());
+            unit.setDirection(unit.getDirection() - traverseSpeed);
         }
     }
 
@@ -60,8 +218,9 @@ public class UnitMover implements ClockTickObserver {
                 && Math.abs(movement.getCurrentMovementSpeed() - movement.getTargetMovementSpeed()) > 0.05) {
             // Speed up until the unit hits top speed.
             movement.setCurrentMovementSpeed(movement.getCurrentMovementSpeed()
-                    + movement.getTargetMovementSpeed() * movement.getAcceleration());
-            movement.setAccelerationDistance(movement.getStart().getDistanceTo(unit.getLocation()));
+                    + movement.getTargetMovementSpeed() * movement.getAcceleration() * tickScale);
+            movement.setAccelerationDistance(
+                    Math.sqrt(movement.getStart().distanceSquared(unit.getX(), unit.getY())));
             if (movement.getCurrentMovementSpeed() >= movement.getTargetMovementSpeed()) {
                 movement.setCurrentMovementSpeed(movement.getTargetMovementSpeed());
                 movement.setAccelerating(false);
@@ -70,11 +229,11 @@ public class UnitMover implements ClockTickObserver {
         if (movement.isDecelerating() && movement.getCurrentMovementSpeed() > 0) {
             // Slow down further.
             movement.setCurrentMovementSpeed(movement.getCurrentMovementSpeed()
-                    - movement.getTargetMovementSpeed() * movement.getAcceleration());
+                    - movement.getTargetMovementSpeed() * movement.getAcceleration() * tickScale);
         }
 
         // When the unit gets close enough to the destination, start decelerating.
-        final double distance = unit.getLocation().getDistanceTo(movement.getDestination());
+        final double distance = Math.sqrt(movement.getDestination().distanceSquared(unit.getX(), unit.getY()));
         if (!movement.isDecelerating() && distance < movement.getAccelerationDistance()) {
             movement.setDecelerating(true);
             movement.setAccelerating(false);
@@ -84,29 +243,35 @@ public class UnitMover implements ClockTickObserver {
     private void updateUnitLocation(@Nonnull final Unit unit, @Nonnull final Movement movement) {
         updateMovementAcceleration(unit, movement);
 
-        final double distance = unit.getLocation().getDistanceTo(movement.getDestination());
-        final Location direction = movement.getDestination().subtract(unit.getLocation()).getNormalized();
-        final Location scaledDirection =
-                direction.multiply(movement.getCurrentMovementSpeed()).multiply(MOVEMENT_FACTOR);
-        final Location updatedUnitLocation = unit.getLocation().add(scaledDirection);
+        // Work with primitive coordinates so that no intermediate locations are created for each unit every tick.
+        final Location destination = movement.getDestination();
+        final double deltaX = destination.getX() - unit.getX();
+        final double deltaY = destination.getY() - unit.getY();
+        final double distance = Math.sqrt((deltaX * deltaX) + (deltaY * deltaY));
+        final double step = movement.getCurrentMovementSpeed() * MOVEMENT_FACTOR * tickScale;
 
-        final double updatedDistance = unit.getLocation().getDistanceTo(updatedUnitLocation);
-        if (updatedDistance > distance) {
-            unit.setLocation(movement.getDestination());
+        if (Math.abs(step) >= distance) {
+            unit.setLocation(destination);
             moving.remove(unit);
+            arrived.add(unit);
         } else {
-            unit.setLocation(updatedUnitLocation);
+            unit.setLocation(unit.getX() + (deltaX / distance * step), unit.getY() + (deltaY / distance * step));
         }
+        spatialIndex.update(unit);
     }
 
-    private void move(@Nonnull final Unit unit, @Nonnull final Movement movement) {
-        if (unit.getLocation().equals(movement.getDestination())) {
+    private void turn(@Nonnull final Unit unit, @Nonnull final Movement movement) {
+        if (movement.getDestination().isAt(unit.getX(), unit.getY())) {
             moving.remove(unit);
+            arrived.add(unit);
         } else {
             updateUnitDirection(unit, movement);
-            if (movement.getMovementGroup().allTraversesComplete()) {
-                updateUnitLocation(unit, movement);
-            }
+        }
+    }
+
+    private void advance(@Nonnull final Unit unit, @Nonnull final Movement movement) {
+        if (movement.getMovementGroup().allTraversesComplete()) {
+            updateUnitLocation(unit, movement);
         }
     }
 
@@ -131,6 +296,13 @@ public class UnitMover implements ClockTickObserver {
             // keeping the current formation.
             final Location centerOfMass = getCenterOfMass(units);
             final MovementGroup movementGroup = new MovementGroup(units);
+
+            // Calculate the slowest movement speed of all units, since they are going to stay in formation.
+            final double movementSpeed = units.stream().mapToDouble(Unit::getMovementSpeed).min().orElse(0);
+
+            // Calculate the slowest acceleration of all units, since they are going to stay in formation.
+            final double acceleration = units.stream().mapToDouble(Unit::getAcceleration).min().orElse(0);
+
             units.stream()
                     .filter(Unit::isMovable)
                     .map(unit -> {
@@ -140,12 +312,6 @@ public class UnitMover implements ClockTickObserver {
                         // Calculate the unit destination using the delta relative to the group destination.
                         final Location unitDestination = destination.subtract(delta);
 
-                        // Calculate the slowest movement speed of all units, since they are going to stay in formation.
-                        final double movementSpeed = units.stream().mapToDouble(Unit::getMovementSpeed).min().orElse(0);
-
-                        // Calculate the slowest acceleration of all units, since they are going to stay in formation.
-                        final double acceleration = units.stream().mapToDouble(Unit::getAcceleration).min().orElse(0);
-
                         // Add the unit to the moving map using the relative location of the unit compared to the
                         // center of mass of all the units that need to move.
                         return new Movement(unit, movementGroup, unit.getLocation(), unitDestination,
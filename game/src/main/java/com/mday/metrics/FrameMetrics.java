@@ -0,0 +1,138 @@
+package com.mday.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nonnull;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Records how long each phase of the game loop takes, in nanoseconds, using a histogram for each phase. The game loop
+ * records timings for the whole frame, for each simulation tick, and for each clock tick observer and surface
+ * consumer, so a slow frame can be traced back to the component responsible for it.
+ */
+public class FrameMetrics implements FrameMetricsMXBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FrameMetrics.class);
+
+    /**
+     * The name under which the frame metrics are registered with the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "com.mday:type=FrameMetrics";
+
+    /**
+     * The phase covering all of the work done for a frame, including the simulation ticks and rendering.
+     */
+    public static final String FRAME = "frame";
+
+    /**
+     * The phase covering a single simulation tick, including notifying the observers and consuming the events.
+     */
+    public static final String TICK = "tick";
+
+    /**
+     * The phase covering the notification of all of the clock tick observers within a tick.
+     */
+    public static final String CLOCK_TICK_OBSERVERS = "tick.observers";
+
+    /**
+     * The phase covering the consumption of all of the queued events within a tick.
+     */
+    public static final String EVENTS = "tick.events";
+
+    /**
+     * The phase covering the rendering of a frame.
+     */
+    public static final String RENDER = "render";
+
+    @Nonnull
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+
+    /**
+     * Retrieve the histogram for the provided phase, creating it if it does not yet exist.
+     *
+     * @param phase the name of the phase
+     * @return the histogram recording the durations of the phase
+     */
+    @Nonnull
+    public Histogram getHistogram(@Nonnull final String phase) {
+        return histograms.computeIfAbsent(phase, name -> new Histogram());
+    }
+
+    /**
+     * Wrap a component of the game loop with the histogram that will record its durations. The histogram is named
+     * after the phase and the class of the component, so components of the same class share a histogram.
+     *
+     * @param phase the name of the phase in which the component is invoked
+     * @param component the component to be timed
+     * @param <T> the type of component to be timed
+     * @return the component together with the histogram that will record its durations
+     */
+    @Nonnull
+    public <T> Timed<T> time(@Nonnull final String phase, @Nonnull final T component) {
+        final String className = component.getClass().getSimpleName();
+        final String name = className.isEmpty() ? component.getClass().getName() : className;
+        return new Timed<>(component, getHistogram(phase + "." + name));
+    }
+
+    /**
+     * Register these metrics with the platform MBean server, replacing any metrics that were previously registered.
+     * Failures are logged rather than thrown, since the game can run without its metrics being published.
+     */
+    public void register() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(this, objectName);
+        } catch (final JMException exception) {
+            LOGGER.warn("Failed to register frame metrics", exception);
+        }
+    }
+
+    @Override
+    @Nonnull
+    public Map<String, Long> getCounts() {
+        return collect(Histogram::getCount);
+    }
+
+    @Override
+    @Nonnull
+    public Map<String, Long> getMedianNanos() {
+        return collect(histogram -> histogram.getValueAtPercentile(50));
+    }
+
+    @Override
+    @Nonnull
+    public Map<String, Long> getPercentile99Nanos() {
+        return collect(histogram -> histogram.getValueAtPercentile(99));
+    }
+
+    @Override
+    @Nonnull
+    public Map<String, Long> getMaxNanos() {
+        return collect(Histogram::getMax);
+    }
+
+    @Override
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    @Nonnull
+    private Map<String, Long> collect(@Nonnull final ToLongFunction<Histogram> statistic) {
+        final Map<String, Long> values = new TreeMap<>();
+        histograms.forEach((phase, histogram) -> values.put(phase, statistic.applyAsLong(histogram)));
+        return values;
+    }
+}
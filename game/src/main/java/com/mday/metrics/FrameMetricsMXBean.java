@@ -0,0 +1,48 @@
+package com.mday.metrics;
+
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Defines the management interface for the frame timing metrics, so they can be monitored using JMX tools such as
+ * JConsole. Each map is keyed by the name of a phase of the game loop, and holds durations in nanoseconds.
+ */
+public interface FrameMetricsMXBean {
+    /**
+     * Retrieve the number of times each phase has been timed.
+     *
+     * @return the number of times each phase has been timed
+     */
+    @Nonnull
+    Map<String, Long> getCounts();
+
+    /**
+     * Retrieve the median duration of each phase.
+     *
+     * @return the median duration of each phase in nanoseconds
+     */
+    @Nonnull
+    Map<String, Long> getMedianNanos();
+
+    /**
+     * Retrieve the 99th percentile duration of each phase.
+     *
+     * @return the 99th percentile duration of each phase in nanoseconds
+     */
+    @Nonnull
+    Map<String, Long> getPercentile99Nanos();
+
+    /**
+     * Retrieve the longest duration of each phase.
+     *
+     * @return the longest duration of each phase in nanoseconds
+     */
+    @Nonnull
+    Map<String, Long> getMaxNanos();
+
+    /**
+     * Remove all of the timings recorded so far.
+     */
+    void reset();
+}
@@ -0,0 +1,125 @@
+package com.mday.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Records the distribution of non-negative values, such as durations in nanoseconds, in a fixed set of buckets so that
+ * recording a value never allocates. Each power of two is split into {@code 8} buckets, so a percentile is reported
+ * within 12.5% of the actual value.
+ *
+ * <p>Values may be recorded from any thread. Percentiles read while values are being recorded may not include the
+ * most recent values.</p>
+ */
+public class Histogram {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Histogram.class);
+
+    // The number of bits used to split each power of two into buckets.
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values below the number of sub-buckets are counted exactly, then each power of two has its own set of buckets.
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    @Nonnull
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    @Nonnull
+    private final AtomicLong count = new AtomicLong();
+    @Nonnull
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a value in this histogram. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(final long value) {
+        final long recorded = Math.max(value, 0);
+        counts.incrementAndGet(bucket(recorded));
+        count.incrementAndGet();
+
+        long current = max.get();
+        while (recorded > current && !max.compareAndSet(current, recorded)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Retrieve the number of values recorded in this histogram.
+     *
+     * @return the number of values recorded in this histogram
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Retrieve the largest value recorded in this histogram.
+     *
+     * @return the largest value recorded in this histogram, or zero if no values have been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Retrieve the value below which the provided percentage of the recorded values fall.
+     *
+     * @param percentile the percentage of recorded values, between 0 and 100
+     * @return the upper bound of the bucket holding the requested percentile, no larger than the largest recorded
+     * value, or zero if no values have been recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+
+        final long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        final long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= target) {
+                return Math.min(upperBound(bucket), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Remove all of the values recorded in this histogram.
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+        count.set(0);
+        max.set(0);
+    }
+
+    private static int bucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // The position of the highest bit selects the power of two, and the bits below it select the sub-bucket.
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - 1 - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long upperBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
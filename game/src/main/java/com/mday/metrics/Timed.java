@@ -0,0 +1,46 @@
+package com.mday.metrics;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Holds a component of the game loop together with the histogram recording how long each of its invocations takes.
+ *
+ * @param <T> the type of component being timed
+ */
+public class Timed<T> {
+    @Nonnull
+    private final T component;
+    @Nonnull
+    private final Histogram histogram;
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param component the component being timed
+     * @param histogram the histogram recording how long each invocation of the component takes
+     */
+    public Timed(@Nonnull final T component, @Nonnull final Histogram histogram) {
+        this.component = component;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Retrieve the component being timed.
+     *
+     * @return the component being timed
+     */
+    @Nonnull
+    public T getComponent() {
+        return component;
+    }
+
+    /**
+     * Retrieve the histogram recording how long each invocation of the component takes.
+     *
+     * @return the histogram recording how long each invocation of the component takes
+     */
+    @Nonnull
+    public Histogram getHistogram() {
+        return histogram;
+    }
+}
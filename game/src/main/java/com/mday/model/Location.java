@@ -75,7 +75,46 @@ public class Location {
      * @return the distance between this location and the one provided
      */
     public double getDistanceTo(@Nonnull final Location location) {
-        return subtract(location).getLength();
+        return sqrt(distanceSquared(location.getX(), location.getY()));
+    }
+
+    /**
+     * Retrieve the square of the distance between this location and the provided coordinates. Comparing squared
+     * distances avoids both the square root and the intermediate location needed by {@link #getDistanceTo(Location)}.
+     *
+     * @param x the X axis location to calculate distance with
+     * @param y the Y axis location to calculate distance with
+     * @return the square of the distance between this location and the provided coordinates
+     */
+    public double distanceSquared(final double x, final double y) {
+        return distanceSquared(getX(), getY(), x, y);
+    }
+
+    /**
+     * Retrieve the square of the distance between the two provided points.
+     *
+     * @param x1 the X axis location of the first point
+     * @param y1 the Y axis location of the first point
+     * @param x2 the X axis location of the second point
+     * @param y2 the Y axis location of the second point
+     * @return the square of the distance between the two provided points
+     */
+    public static double distanceSquared(final double x1, final double y1, final double x2, final double y2) {
+        final double deltaX = x2 - x1;
+        final double deltaY = y2 - y1;
+        return (deltaX * deltaX) + (deltaY * deltaY);
+    }
+
+    /**
+     * Determine whether this location is at the provided coordinates, using the same tolerance as
+     * {@link #equals(Object)}.
+     *
+     * @param x the X axis location to compare with
+     * @param y the Y axis location to compare with
+     * @return whether this location is at the provided coordinates
+     */
+    public boolean isAt(final double x, final double y) {
+        return abs(this.x - x) < 0.00001 && abs(this.y - y) < 0.00001;
     }
 
     /**
@@ -168,7 +207,25 @@ public class Location {
      * @return whether this location is inside the bounding box
      */
     public boolean isInside(@Nonnull final Location topLeft, @Nonnull final Location bottomRight, final double radius) {
-        return isInside(topLeft.subtract(radius, radius), bottomRight.add(radius, radius));
+        return isInside(getX(), getY(), radius, topLeft, bottomRight);
+    }
+
+    /**
+     * Determine if the provided coordinates are contained within the provided bounding box, including any area within
+     * radius of the coordinates.
+     *
+     * @param x           the X axis location to check
+     * @param y           the Y axis location to check
+     * @param radius      the radius indicating the size of the object at the coordinates
+     * @param topLeft     the top-left location of the bounding box
+     * @param bottomRight the bottom-right location of the bounding box
+     * @return whether the coordinates are inside the bounding box
+     */
+    public static boolean isInside(
+            final double x, final double y, final double radius, @Nonnull final Location topLeft,
+            @Nonnull final Location bottomRight) {
+        return topLeft.getX() - radius <= x && topLeft.getY() - radius <= y
+                && bottomRight.getX() + radius >= x && bottomRight.getY() + radius >= y;
     }
 
     @Override
@@ -178,7 +235,7 @@ public class Location {
         }
 
         final Location location = (Location) other;
-        return abs(x - location.x) < 0.00001 && abs(y - location.y) < 0.00001;
+        return isAt(location.x, location.y);
     }
 
     @Override
@@ -0,0 +1,17 @@
+package com.mday.model;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Defines the interface for handling changes to whether a unit is selected.
+ */
+@FunctionalInterface
+public interface SelectionObserver {
+    /**
+     * Handle notification that a unit has been selected or deselected.
+     *
+     * @param unit the unit whose selection changed
+     * @param selected whether the unit is now selected
+     */
+    void selectionChanged(@Nonnull Unit unit, boolean selected);
+}
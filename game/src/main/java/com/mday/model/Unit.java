@@ -1,7 +1,5 @@
 package com.mday.model;
 
-import java.util.Objects;
-
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -14,7 +12,13 @@ public class Unit implements Comparable<Unit> {
     private final UnitType unitType;
     @Nonnull
     private final String id;
-    @Nonnull
+    // The location is kept as primitive coordinates so that moving a unit does not create a new location each tick.
+    private double x;
+    private double y;
+    private double previousX;
+    private double previousY;
+    // A location matching the coordinates above, created lazily when requested and discarded when the unit moves.
+    @Nullable
     private Location location;
     private double radius = 10.0;
     private boolean selected = false;
@@ -23,6 +27,15 @@ public class Unit implements Comparable<Unit> {
     private double acceleration = 1 / 100.0;
     private double traverseSpeed = 10.0 * Math.PI / 180;
     private double direction = 0;
+    private double previousDirection = 0;
+    // When attached to a unit store, the location, direction, movement speed, selected and movable state are held in
+    // the store instead of the fields above, and this unit is a view over its slot in the store.
+    @Nullable
+    private UnitStore unitStore;
+    private int handle = -1;
+    // Notified when this unit is selected or deselected, so a container tracking the selection stays up to date.
+    @Nullable
+    private SelectionObserver selectionObserver;
 
     /**
      * Create a new unit instance.
@@ -34,6 +47,10 @@ public class Unit implements Comparable<Unit> {
     public Unit(@Nonnull final UnitType unitType, @Nonnull final String id, @Nonnull final Location location) {
         this.unitType = unitType;
         this.id = id;
+        this.x = location.getX();
+        this.y = location.getY();
+        this.previousX = x;
+        this.previousY = y;
         this.location = location;
     }
 
@@ -64,7 +81,32 @@ public class Unit implements Comparable<Unit> {
      */
     @Nonnull
     public Location getLocation() {
-        return location;
+        Location current = location;
+        if (current == null) {
+            current = new Location(getX(), getY());
+            location = current;
+        }
+        return current;
+    }
+
+    /**
+     * Retrieve the X axis location of this unit.
+     *
+     * @return the X axis location of this unit
+     */
+    public double getX() {
+        final UnitStore store = unitStore;
+        return store == null ? x : store.getX(handle);
+    }
+
+    /**
+     * Retrieve the Y axis location of this unit.
+     *
+     * @return the Y axis location of this unit
+     */
+    public double getY() {
+        final UnitStore store = unitStore;
+        return store == null ? y : store.getY(handle);
     }
 
     /**
@@ -73,9 +115,108 @@ public class Unit implements Comparable<Unit> {
      * @param location the new location of this unit
      */
     public void setLocation(@Nonnull final Location location) {
+        setCoordinates(location.getX(), location.getY());
         this.location = location;
     }
 
+    /**
+     * Set the location of this unit without creating a new location object.
+     *
+     * @param x the new X axis location of this unit
+     * @param y the new Y axis location of this unit
+     */
+    public void setLocation(final double x, final double y) {
+        setCoordinates(x, y);
+        this.location = null;
+    }
+
+    private void setCoordinates(final double x, final double y) {
+        final UnitStore store = unitStore;
+        if (store == null) {
+            this.x = x;
+            this.y = y;
+        } else {
+            store.setLocation(handle, x, y);
+        }
+    }
+
+    /**
+     * Retrieve the location of this unit interpolated between the previous simulation tick and the current one.
+     *
+     * @param alpha the fraction of the way from the previous location to the current location, between 0 and 1
+     * @return the interpolated location of this unit
+     */
+    @Nonnull
+    public Location getInterpolatedLocation(final double alpha) {
+        if (alpha >= 1 || (getPreviousX() == getX() && getPreviousY() == getY())) {
+            return getLocation();
+        }
+        return new Location(getInterpolatedX(alpha), getInterpolatedY(alpha));
+    }
+
+    /**
+     * Retrieve the X axis location of this unit interpolated between the previous simulation tick and the current one.
+     *
+     * @param alpha the fraction of the way from the previous location to the current location, between 0 and 1
+     * @return the interpolated X axis location of this unit
+     */
+    public double getInterpolatedX(final double alpha) {
+        final double current = getX();
+        return alpha >= 1 ? current : getPreviousX() + (current - getPreviousX()) * alpha;
+    }
+
+    /**
+     * Retrieve the Y axis location of this unit interpolated between the previous simulation tick and the current one.
+     *
+     * @param alpha the fraction of the way from the previous location to the current location, between 0 and 1
+     * @return the interpolated Y axis location of this unit
+     */
+    public double getInterpolatedY(final double alpha) {
+        final double current = getY();
+        return alpha >= 1 ? current : getPreviousY() + (current - getPreviousY()) * alpha;
+    }
+
+    /**
+     * Record the current location and direction of this unit as the previous simulation state, which is the starting
+     * point used when interpolating the unit between simulation ticks.
+     */
+    public void snapshot() {
+        final UnitStore store = unitStore;
+        if (store == null) {
+            previousX = x;
+            previousY = y;
+            previousDirection = direction;
+        } else {
+            store.snapshot(handle);
+        }
+    }
+
+    private double getPreviousX() {
+        final UnitStore store = unitStore;
+        return store == null ? previousX : store.getPreviousX(handle);
+    }
+
+    private double getPreviousY() {
+        final UnitStore store = unitStore;
+        return store == null ? previousY : store.getPreviousY(handle);
+    }
+
+    private double getPreviousDirection() {
+        final UnitStore store = unitStore;
+        return store == null ? previousDirection : store.getPreviousDirection(handle);
+    }
+
+    /**
+     * Determine if any part of this unit is inside the provided bounding box.
+     *
+     * @param topLeft     the top-left location of the bounding box
+     * @param bottomRight the bottom-right location of the bounding box
+     * @return whether any part of this unit is inside the bounding box
+     */
+    public boolean isInside(@Nonnull final Location topLeft, @Nonnull final Location bottomRight) {
+        return Location.isInside(getX(), getY(), radius, topLeft, bottomRight);
+    }
+
     /**
      * Retrieve the radius indicating the size of this unit.
      *
@@ -100,16 +241,39 @@ public class Unit implements Comparable<Unit> {
      * @return this unit is currently selected
      */
     public boolean isSelected() {
-        return selected;
+        final UnitStore store = unitStore;
+        return store == null ? selected : store.isSelected(handle);
     }
 
     /**
-     * Set whether this unit is currently selected.
+     * Set whether this unit is currently selected, notifying the selection observer if this changes the selection.
      *
      * @param selected the new value indicating whether this unit is currently selected
      */
     public void setSelected(final boolean selected) {
-        this.selected = selected;
+        if (isSelected() == selected) {
+            return;
+        }
+        final UnitStore store = unitStore;
+        if (store == null) {
+            this.selected = selected;
+        } else {
+            store.setSelected(handle, selected);
+        }
+        final SelectionObserver observer = selectionObserver;
+        if (observer != null) {
+            observer.selectionChanged(this, selected);
+        }
+    }
+
+    /**
+     * Set the observer notified each time this unit is selected or deselected, such as the container of the units
+     * that tracks which of them are selected.
+     *
+     * @param selectionObserver the observer to notify, or {@code null} to stop notifying an observer
+     */
+    public void setSelectionObserver(@Nullable final SelectionObserver selectionObserver) {
+        this.selectionObserver = selectionObserver;
     }
 
     /**
@@ -118,7 +282,8 @@ public class Unit implements Comparable<Unit> {
      * @return whether this unit can be moved
      */
     public boolean isMovable() {
-        return movable;
+        final UnitStore store = unitStore;
+        return store == null ? movable : store.isMovable(handle);
     }
 
     /**
@@ -127,7 +292,12 @@ public class Unit implements Comparable<Unit> {
      * @param movable the new value indicating whether this unit can be moved
      */
     public void setMovable(final boolean movable) {
-        this.movable = movable;
+        final UnitStore store = unitStore;
+        if (store == null) {
+            this.movable = movable;
+        } else {
+            store.setMovable(handle, movable);
+        }
     }
 
     /**
@@ -136,7 +306,8 @@ public class Unit implements Comparable<Unit> {
      * @return the movement speed for this unit
      */
     public double getMovementSpeed() {
-        return movementSpeed;
+        final UnitStore store = unitStore;
+        return store == null ? movementSpeed : store.getMovementSpeed(handle);
     }
 
     /**
@@ -145,7 +316,12 @@ public class Unit implements Comparable<Unit> {
      * @param movementSpeed the new value indicating the movement speed for this unit
      */
     public void setMovementSpeed(final double movementSpeed) {
-        this.movementSpeed = movementSpeed;
+        final UnitStore store = unitStore;
+        if (store == null) {
+            this.movementSpeed = movementSpeed;
+        } else {
+            store.setMovementSpeed(handle, movementSpeed);
+        }
     }
 
     /**
@@ -190,7 +366,8 @@ public class Unit implements Comparable<Unit> {
      * @return the angular direction of this unit in radians
      */
     public double getDirection() {
-        return direction;
+        final UnitStore store = unitStore;
+        return store == null ? direction : store.getDirection(handle);
     }
 
     /**
@@ -199,7 +376,81 @@ public class Unit implements Comparable<Unit> {
      * @param direction the new angular direction of this unit in radians
      */
     public void setDirection(final double direction) {
-        this.direction = direction;
+        final UnitStore store = unitStore;
+        if (store == null) {
+            this.direction = direction;
+        } else {
+            store.setDirection(handle, direction);
+        }
+    }
+
+    /**
+     * Retrieve the angular direction of this unit in radians, interpolated between the previous simulation tick and
+     * the current one.
+     *
+     * @param alpha the fraction of the way from the previous direction to the current direction, between 0 and 1
+     * @return the interpolated angular direction of this unit in radians
+     */
+    public double getInterpolatedDirection(final double alpha) {
+        // Take the shortest way around the circle, since directions are not kept within a single revolution.
+        final double previous = getPreviousDirection();
+        return previous + Math.IEEEremainder(getDirection() - previous, 2 * Math.PI) * alpha;
+    }
+
+    /**
+     * Retrieve the store holding the state of this unit.
+     *
+     * @return the store holding the state of this unit, or {@code null} if the state is held by this unit itself
+     */
+    @Nullable
+    public UnitStore getUnitStore() {
+        return unitStore;
+    }
+
+    /**
+     * Retrieve the handle identifying the slot holding the state of this unit within its unit store.
+     *
+     * @return the handle of this unit within its unit store, or -1 if this unit is not attached to a store
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    /**
+     * Move the state of this unit into the provided slot of a unit store.
+     */
+    void attach(@Nonnull final UnitStore store, final int handle) {
+        store.setState(handle, x, y, previousX, previousY, direction, previousDirection, movementSpeed, selected,
+                movable);
+        this.handle = handle;
+        this.unitStore = store;
+    }
+
+    /**
+     * Update the slot holding the state of this unit after the unit store has moved it.
+     */
+    void setHandle(final int handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Move the state of this unit out of its unit store and back into this unit.
+     */
+    void detach() {
+        final UnitStore store = unitStore;
+        if (store != null) {
+            x = store.getX(handle);
+            y = store.getY(handle);
+            previousX = store.getPreviousX(handle);
+            previousY = store.getPreviousY(handle);
+            direction = store.getDirection(handle);
+            previousDirection = store.getPreviousDirection(handle);
+            movementSpeed = store.getMovementSpeed(handle);
+            selected = store.isSelected(handle);
+            movable = store.isMovable(handle);
+            unitStore = null;
+            handle = -1;
+        }
     }
 
     @Override
@@ -218,7 +469,8 @@ public class Unit implements Comparable<Unit> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(getId());
+        // Hash the id directly, since Objects.hash would create a varargs array on every hash map lookup.
+        return getId().hashCode();
     }
 
     @Override
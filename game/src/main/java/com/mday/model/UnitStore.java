@@ -0,0 +1,329 @@
+package com.mday.model;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Holds the frequently updated state of many units in a structure of arrays, indexed by a dense integer handle for
+ * each unit. Units attached to this store become views over their slot in the arrays, so iterating over the location
+ * and direction of every unit walks contiguous memory instead of following a reference to each unit object.
+ *
+ * <p>This class is not thread-safe. Units should only be attached, detached and updated from the game loop thread.</p>
+ */
+public class UnitStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnitStore.class);
+
+    /**
+     * The default number of units for which space is allocated up front.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    @Nonnull
+    private Unit[] units;
+    @Nonnull
+    private double[] x;
+    @Nonnull
+    private double[] y;
+    @Nonnull
+    private double[] previousX;
+    @Nonnull
+    private double[] previousY;
+    @Nonnull
+    private double[] direction;
+    @Nonnull
+    private double[] previousDirection;
+    @Nonnull
+    private double[] movementSpeed;
+    @Nonnull
+    private final BitSet selected = new BitSet();
+    @Nonnull
+    private final BitSet movable = new BitSet();
+
+    private int size = 0;
+
+    /**
+     * Create an instance of this class using the default capacity.
+     */
+    public UnitStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param capacity the number of units for which space is allocated up front, the store grows as needed
+     */
+    public UnitStore(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        units = new Unit[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        previousX = new double[capacity];
+        previousY = new double[capacity];
+        direction = new double[capacity];
+        previousDirection = new double[capacity];
+        movementSpeed = new double[capacity];
+    }
+
+    /**
+     * Retrieve the number of units attached to this store. Valid handles range from zero up to this value.
+     *
+     * @return the number of units attached to this store
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieve the unit with the provided handle.
+     *
+     * @param handle the handle of the unit to retrieve
+     * @return the unit with the provided handle
+     */
+    @Nonnull
+    public Unit getUnit(final int handle) {
+        return units[handle];
+    }
+
+    /**
+     * Attach a unit to this store, moving its state into the arrays. Units already attached to this store are left
+     * as they are.
+     *
+     * @param unit the unit to attach
+     * @return the handle assigned to the unit
+     * @throws IllegalStateException if the unit is already attached to a different store
+     */
+    public int attach(@Nonnull final Unit unit) {
+        if (unit.getUnitStore() == this) {
+            return unit.getHandle();
+        } else if (unit.getUnitStore() != null) {
+            throw new IllegalStateException("Unit " + unit.getId() + " is attached to another store");
+        }
+        if (size == units.length) {
+            grow();
+        }
+
+        final int handle = size++;
+        units[handle] = unit;
+        unit.attach(this, handle);
+        return handle;
+    }
+
+    /**
+     * Detach a unit from this store, moving its state back into the unit. The last unit in the store takes over the
+     * slot that was used by the detached unit, so the handles remain dense.
+     *
+     * @param unit the unit to detach, units not attached to this store are ignored
+     */
+    public void detach(@Nonnull final Unit unit) {
+        if (unit.getUnitStore() != this) {
+            return;
+        }
+
+        final int handle = unit.getHandle();
+        unit.detach();
+
+        final int last = --size;
+        if (handle != last) {
+            final Unit moved = units[last];
+            units[handle] = moved;
+            x[handle] = x[last];
+            y[handle] = y[last];
+            previousX[handle] = previousX[last];
+            previousY[handle] = previousY[last];
+            direction[handle] = direction[last];
+            previousDirection[handle] = previousDirection[last];
+            movementSpeed[handle] = movementSpeed[last];
+            selected.set(handle, selected.get(last));
+            movable.set(handle, movable.get(last));
+            moved.setHandle(handle);
+        }
+        units[last] = null;
+        selected.clear(last);
+        movable.clear(last);
+    }
+
+    /**
+     * Record the current location and direction of every attached unit as the previous simulation state, equivalent
+     * to calling {@link Unit#snapshot()} on each of them.
+     */
+    public void snapshot() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+        System.arraycopy(direction, 0, previousDirection, 0, size);
+    }
+
+    /**
+     * Record the current location and direction of the unit with the provided handle as its previous state.
+     */
+    void snapshot(final int handle) {
+        previousX[handle] = x[handle];
+        previousY[handle] = y[handle];
+        previousDirection[handle] = direction[handle];
+    }
+
+    /**
+     * Retrieve the X axis location of the unit with the provided handle.
+     *
+     * @param handle the handle of the unit
+     * @return the X axis location of the unit
+     */
+    public double getX(final int handle) {
+        return x[handle];
+    }
+
+    /**
+     * Retrieve the Y axis location of the unit with the provided handle.
+     *
+     * @param handle the handle of the unit
+     * @return the Y axis location of the unit
+     */
+    public double getY(final int handle) {
+        return y[handle];
+    }
+
+    /**
+     * Retrieve the X axis location of the unit with the provided handle as of the previous simulation tick.
+     *
+     * @param handle the handle of the unit
+     * @return the previous X axis location of the unit
+     */
+    public double getPreviousX(final int handle) {
+        return previousX[handle];
+    }
+
+    /**
+     * Retrieve the Y axis location of the unit with the provided handle as of the previous simulation tick.
+     *
+     * @param handle the handle of the unit
+     * @return the previous Y axis location of the unit
+     */
+    public double getPreviousY(final int handle) {
+        return previousY[handle];
+    }
+
+    /**
+     * Retrieve the angular direction in radians of the unit with the provided handle.
+     *
+     * @param handle the handle of the unit
+     * @return the angular direction of the unit in radians
+     */
+    public double getDirection(final int handle) {
+        return direction[handle];
+    }
+
+    /**
+     * Retrieve the angular direction in radians of the unit with the provided handle as of the previous simulation
+     * tick.
+     *
+     * @param handle the handle of the unit
+     * @return the previous angular direction of the unit in radians
+     */
+    public double getPreviousDirection(final int handle) {
+        return previousDirection[handle];
+    }
+
+    /**
+     * Retrieve the movement speed of the unit with the provided handle.
+     *
+     * @param handle the handle of the unit
+     * @return the movement speed of the unit
+     */
+    public double getMovementSpeed(final int handle) {
+        return movementSpeed[handle];
+    }
+
+    /**
+     * Retrieve whether the unit with the provided handle is currently selected.
+     *
+     * @param handle the handle of the unit
+     * @return whether the unit is currently selected
+     */
+    public boolean isSelected(final int handle) {
+        return selected.get(handle);
+    }
+
+    /**
+     * Retrieve whether the unit with the provided handle can be moved.
+     *
+     * @param handle the handle of the unit
+     * @return whether the unit can be moved
+     */
+    public boolean isMovable(final int handle) {
+        return movable.get(handle);
+    }
+
+    /**
+     * Set the full state of the unit with the provided handle, used when a unit is attached to this store.
+     */
+    void setState(
+            final int handle, final double x, final double y, final double previousX, final double previousY,
+            final double direction, final double previousDirection, final double movementSpeed,
+            final boolean selected, final boolean movable) {
+        this.x[handle] = x;
+        this.y[handle] = y;
+        this.previousX[handle] = previousX;
+        this.previousY[handle] = previousY;
+        this.direction[handle] = direction;
+        this.previousDirection[handle] = previousDirection;
+        this.movementSpeed[handle] = movementSpeed;
+        this.selected.set(handle, selected);
+        this.movable.set(handle, movable);
+    }
+
+    /**
+     * Set the location of the unit with the provided handle.
+     */
+    void setLocation(final int handle, final double x, final double y) {
+        this.x[handle] = x;
+        this.y[handle] = y;
+    }
+
+    /**
+     * Set the angular direction in radians of the unit with the provided handle.
+     */
+    void setDirection(final int handle, final double direction) {
+        this.direction[handle] = direction;
+    }
+
+    /**
+     * Set the movement speed of the unit with the provided handle.
+     */
+    void setMovementSpeed(final int handle, final double movementSpeed) {
+        this.movementSpeed[handle] = movementSpeed;
+    }
+
+    /**
+     * Set whether the unit with the provided handle is currently selected.
+     */
+    void setSelected(final int handle, final boolean selected) {
+        this.selected.set(handle, selected);
+    }
+
+    /**
+     * Set whether the unit with the provided handle can be moved.
+     */
+    void setMovable(final int handle, final boolean movable) {
+        this.movable.set(handle, movable);
+    }
+
+    private void grow() {
+        final int capacity = units.length * 2;
+        LOGGER.debug("Growing unit store capacity to {}", capacity);
+        units = Arrays.copyOf(units, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+        previousDirection = Arrays.copyOf(previousDirection, capacity);
+        movementSpeed = Arrays.copyOf(movementSpeed, capacity);
+    }
+}
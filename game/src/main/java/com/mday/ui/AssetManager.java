@@ -0,0 +1,198 @@
+package com.mday.ui;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB_PRE;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.imageio.ImageIO;
+
+/**
+ * Responsible for loading game assets in the background, so the display can be shown while they are decoded. Images
+ * are decoded in parallel on a bounded pool of daemon threads, whose threads exit once there is nothing left to load.
+ * The time taken from the first request until every requested asset has finished loading is logged, to track startup
+ * latency.
+ */
+public class AssetManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssetManager.class);
+
+    /**
+     * The default maximum number of assets loaded at the same time.
+     */
+    public static final int DEFAULT_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    @Nonnull
+    private final ExecutorService executorService;
+
+    @Nonnull
+    private final AtomicInteger loaded = new AtomicInteger();
+    @Nonnull
+    private final AtomicInteger pending = new AtomicInteger();
+    @Nonnull
+    private final AtomicLong loadStart = new AtomicLong();
+    @Nonnull
+    private final AtomicLong loadNanos = new AtomicLong();
+
+    /**
+     * Create an instance of this class using the default number of threads.
+     */
+    public AssetManager() {
+        this(DEFAULT_THREADS);
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param threads the maximum number of assets loaded at the same time
+     */
+    public AssetManager(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive");
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor threadPoolExecutor =
+                new ThreadPoolExecutor(threads, threads, 1, SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "asset-loader-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executorService = threadPoolExecutor;
+    }
+
+    /**
+     * Start loading an image resource in the background, converting it into an image compatible with the screen.
+     *
+     * @param imageResource the name of the image resource to load
+     * @return a future completed with the loaded image, or completed exceptionally with an
+     * {@link UncheckedIOException} if the image cannot be loaded
+     */
+    @Nonnull
+    public CompletableFuture<BufferedImage> loadImage(@Nonnull final String imageResource) {
+        if (pending.getAndIncrement() == 0) {
+            loadStart.set(System.nanoTime());
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return readImage(imageResource);
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            } finally {
+                complete();
+            }
+        }, executorService);
+    }
+
+    /**
+     * Retrieve the number of assets that have finished loading, successfully or not.
+     *
+     * @return the number of assets that have finished loading
+     */
+    public int getLoadedCount() {
+        return loaded.get();
+    }
+
+    /**
+     * Retrieve the number of assets that have been requested but have not yet finished loading.
+     *
+     * @return the number of assets that have not yet finished loading
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Retrieve the total time spent loading assets, measured from each request made while nothing was loading until
+     * every requested asset had finished loading.
+     *
+     * @return the total time spent loading assets in nanoseconds
+     */
+    public long getLoadNanos() {
+        return loadNanos.get();
+    }
+
+    /**
+     * Load an image resource in the calling thread, converting it into an image compatible with the screen.
+     *
+     * @param imageResource the name of the image resource to load
+     * @return the loaded image
+     * @throws IOException if the image resource cannot be found or decoded
+     */
+    @Nonnull
+    public static BufferedImage readImage(@Nonnull final String imageResource) throws IOException {
+        try (InputStream inputStream = AssetManager.class.getClassLoader().getResourceAsStream(imageResource)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find image resource " + imageResource);
+            }
+            final BufferedImage image = ImageIO.read(inputStream);
+            if (image == null) {
+                throw new IOException("Unable to decode image resource " + imageResource);
+            }
+            return toCompatibleImage(image);
+        }
+    }
+
+    /**
+     * Create an image in the format used by the screen, so it can be kept in video memory and drawn by the graphics
+     * hardware with a plain copy. Without a screen an equivalent integer image is created instead.
+     *
+     * @param width the width of the image in pixels
+     * @param height the height of the image in pixels
+     * @param transparency the transparency of the image, such as {@link Transparency#OPAQUE} or
+     * {@link Transparency#TRANSLUCENT}
+     * @return the new image, which is fully transparent or black
+     */
+    @Nonnull
+    public static BufferedImage createCompatibleImage(final int width, final int height, final int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            final int imageType = transparency == Transparency.OPAQUE ? TYPE_INT_RGB : TYPE_INT_ARGB_PRE;
+            return new BufferedImage(width, height, imageType);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+                .createCompatibleImage(width, height, transparency);
+    }
+
+    private void complete() {
+        loaded.incrementAndGet();
+        if (pending.decrementAndGet() == 0) {
+            final long elapsed = System.nanoTime() - loadStart.get();
+            final long total = loadNanos.addAndGet(elapsed);
+            LOGGER.info("Loaded {} assets in {} ms", loaded.get(), NANOSECONDS.toMillis(total));
+        }
+    }
+
+    @Nonnull
+    private static BufferedImage toCompatibleImage(@Nonnull final BufferedImage image) {
+        // Decoded images are often indexed, which is slow to draw, so copy them into the format used by the screen.
+        final BufferedImage compatible =
+                createCompatibleImage(image.getWidth(), image.getHeight(), Transparency.TRANSLUCENT);
+
+        final Graphics2D graphics = compatible.createGraphics();
+        try {
+            graphics.setComposite(AlphaComposite.Src);
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return compatible;
+    }
+}
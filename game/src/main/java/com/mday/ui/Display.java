@@ -1,17 +1,27 @@
 package com.mday.ui;
 
+import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
 import com.mday.event.EventType;
+import com.mday.game.ChangeSource;
 import com.mday.game.CoordinateSystem;
 import com.mday.game.EventQueue;
+import com.mday.metrics.FrameMetrics;
+import com.mday.metrics.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.awt.Canvas;
+import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsDevice;
 import java.awt.GraphicsEnvironment;
+import java.awt.Toolkit;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
@@ -20,9 +30,13 @@ import java.awt.event.MouseMotionListener;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
 import java.awt.event.WindowEvent;
+import java.awt.image.BufferStrategy;
+import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.swing.JFrame;
 import javax.swing.WindowConstants;
@@ -33,19 +47,47 @@ import javax.swing.WindowConstants;
 public class Display implements EventConsumer, KeyListener, MouseListener, MouseMotionListener, MouseWheelListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(Display.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.START, EventType.QUIT));
+
     private static final Dimension FRAME_DIMENSION = new Dimension(640, 520);
 
+    // The number of buffers used for active rendering. Full-screen mode uses triple buffering, so the next frame can be
+    // drawn while waiting for the display to flip to the last one.
+    private static final int FULL_SCREEN_BUFFERS = 3;
+    private static final int WINDOWED_BUFFERS = 2;
+
+    // The longest time for which frames are skipped while nothing changes, so the display still recovers from anything
+    // that is not tracked by the change sources, such as the window being uncovered.
+    private static final long MAX_IDLE_NANOS = SECONDS.toNanos(1);
+
     private final boolean fullScreen;
+    private final boolean activeRendering;
     @Nonnull
     private final transient EventQueue eventQueue;
     @Nonnull
     private final transient CoordinateSystem coordinateSystem;
     @Nonnull
     private final transient GraphicsDevice graphicsDevice;
+    @Nonnull
+    private final transient FrameMetrics frameMetrics;
+    @Nonnull
+    private final transient RenderQualityController renderQualityController;
 
     private JFrame frame;
     private Surface surface;
-    private final List<SurfaceConsumer> surfaceConsumers = new LinkedList<>();
+    private SurfacePanel surfacePanel;
+    @CheckForNull
+    private Canvas canvas;
+    @CheckForNull
+    private BufferStrategy bufferStrategy;
+    private final List<Timed<SurfaceConsumer>> surfaceConsumers = new LinkedList<>();
+    private final List<ChangeSource> changeSources = new LinkedList<>();
+
+    // The state of the change sources when the last frame was drawn.
+    private long renderedVersion = -1;
+    private long renderedNanos = 0;
+    @CheckForNull
+    private RenderQuality renderedQuality;
 
     /**
      * Create an instance of the game display.
@@ -57,19 +99,87 @@ public class Display implements EventConsumer, KeyListener, MouseListener, Mouse
     public Display(
             final boolean fullScreen, @Nonnull final EventQueue eventQueue,
             @Nonnull final CoordinateSystem coordinateSystem) {
+        this(fullScreen, eventQueue, coordinateSystem, new FrameMetrics());
+    }
+
+    /**
+     * Create an instance of the game display.
+     *
+     * @param fullScreen whether the display should enter full-screen mode
+     * @param eventQueue the event queue to which key and mouse events will be sent
+     * @param coordinateSystem the coordinate system managing locations on the display surface
+     * @param frameMetrics the metrics in which the duration of each surface consumer is recorded
+     */
+    public Display(
+            final boolean fullScreen, @Nonnull final EventQueue eventQueue,
+            @Nonnull final CoordinateSystem coordinateSystem, @Nonnull final FrameMetrics frameMetrics) {
+        this(fullScreen, false, eventQueue, coordinateSystem, frameMetrics);
+    }
+
+    /**
+     * Create an instance of the game display.
+     *
+     * @param fullScreen whether the display should enter full-screen mode
+     * @param activeRendering whether the game should be drawn directly into the back buffer of a page-flipping buffer
+     * strategy, rather than into an image that is painted by Swing, falling back to the latter if the buffer strategy
+     * cannot be created
+     * @param eventQueue the event queue to which key and mouse events will be sent
+     * @param coordinateSystem the coordinate system managing locations on the display surface
+     * @param frameMetrics the metrics in which the duration of each surface consumer is recorded
+     */
+    public Display(
+            final boolean fullScreen, final boolean activeRendering, @Nonnull final EventQueue eventQueue,
+            @Nonnull final CoordinateSystem coordinateSystem, @Nonnull final FrameMetrics frameMetrics) {
+        this(fullScreen, activeRendering, eventQueue, coordinateSystem, frameMetrics, new RenderQualityController());
+    }
+
+    /**
+     * Create an instance of the game display.
+     *
+     * @param fullScreen whether the display should enter full-screen mode
+     * @param activeRendering whether the game should be drawn directly into the back buffer of a page-flipping buffer
+     * strategy, rather than into an image that is painted by Swing, falling back to the latter if the buffer strategy
+     * cannot be created
+     * @param eventQueue the event queue to which key and mouse events will be sent
+     * @param coordinateSystem the coordinate system managing locations on the display surface
+     * @param frameMetrics the metrics in which the duration of each surface consumer is recorded
+     * @param renderQualityController chooses the quality at which the game is drawn from the measured frame times
+     */
+    public Display(
+            final boolean fullScreen, final boolean activeRendering, @Nonnull final EventQueue eventQueue,
+            @Nonnull final CoordinateSystem coordinateSystem, @Nonnull final FrameMetrics frameMetrics,
+            @Nonnull final RenderQualityController renderQualityController) {
         this.fullScreen = fullScreen;
+        this.activeRendering = activeRendering;
+        this.renderQualityController = renderQualityController;
+        this.frameMetrics = frameMetrics;
         this.eventQueue = eventQueue;
         this.coordinateSystem = coordinateSystem;
         this.graphicsDevice = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
     }
 
     /**
-     * Add the specified surface consumer to the display.
+     * Add the specified surface consumer to the display. Surface consumers that are also change sources are added as
+     * change sources too.
      *
      * @param surfaceConsumer the surface consumer that will support drawing the game
      */
     public void addSurfaceConsumer(@Nonnull final SurfaceConsumer surfaceConsumer) {
-        surfaceConsumers.add(surfaceConsumer);
+        surfaceConsumers.add(frameMetrics.time(FrameMetrics.RENDER, surfaceConsumer));
+        if (surfaceConsumer instanceof ChangeSource) {
+            addChangeSource((ChangeSource) surfaceConsumer);
+        }
+    }
+
+    /**
+     * Add the specified change source to the display. Once any change sources have been added, frames are only drawn
+     * when the version of a change source has changed or a change source is animating, and otherwise skipped. Without
+     * any change sources, every frame is drawn.
+     *
+     * @param changeSource the state drawn by the surface consumers, whose changes require a new frame to be drawn
+     */
+    public void addChangeSource(@Nonnull final ChangeSource changeSource) {
+        changeSources.add(changeSource);
     }
 
     @Nonnull
@@ -86,17 +196,38 @@ public class Display implements EventConsumer, KeyListener, MouseListener, Mouse
             coordinateSystem.setHeight((int) FRAME_DIMENSION.getHeight());
             surface = new Surface(coordinateSystem);
         }
-        surface.addKeyListener(this);
-        surface.addMouseListener(this);
-        surface.addMouseMotionListener(this);
-        surface.addMouseWheelListener(this);
+        surface.setRenderQuality(renderQualityController.getRenderQuality());
         return surface;
     }
 
     @Nonnull
-    private JFrame createFrame(@Nonnull final Surface surface) {
+    private SurfacePanel createSurfacePanel(@Nonnull final Surface surface) {
+        final SurfacePanel surfacePanel = new SurfacePanel(surface);
+        surfacePanel.addKeyListener(this);
+        surfacePanel.addMouseListener(this);
+        surfacePanel.addMouseMotionListener(this);
+        surfacePanel.addMouseWheelListener(this);
+        return surfacePanel;
+    }
+
+    @Nonnull
+    private Canvas createCanvas(@Nonnull final Surface surface) {
+        final Canvas canvas = new Canvas(graphicsDevice.getDefaultConfiguration());
+        canvas.setPreferredSize(new Dimension(surface.getWidth(), surface.getHeight()));
+        canvas.setSize(surface.getWidth(), surface.getHeight());
+        // The canvas is only drawn by the game loop, so the system paint events are not needed.
+        canvas.setIgnoreRepaint(true);
+        canvas.addKeyListener(this);
+        canvas.addMouseListener(this);
+        canvas.addMouseMotionListener(this);
+        canvas.addMouseWheelListener(this);
+        return canvas;
+    }
+
+    @Nonnull
+    private JFrame createFrame(@Nonnull final Component component) {
         final JFrame frame = new JFrame(graphicsDevice.getDefaultConfiguration());
-        frame.add(surface);
+        frame.add(component);
         if (fullScreen) {
             frame.setUndecorated(true);
         } else {
@@ -116,16 +247,51 @@ public class Display implements EventConsumer, KeyListener, MouseListener, Mouse
 
     private void showWindow() {
         surface = createSurface();
-        frame = createFrame(surface);
+        surfacePanel = createSurfacePanel(surface);
+        if (activeRendering) {
+            canvas = createCanvas(surface);
+            frame = createFrame(canvas);
+        } else {
+            frame = createFrame(surfacePanel);
+        }
         frame.setVisible(true);
         frame.setIgnoreRepaint(true);
 
         if (fullScreen) {
             graphicsDevice.setFullScreenWindow(frame);
         }
+        if (canvas != null) {
+            bufferStrategy = createBufferStrategy(canvas);
+        }
+    }
+
+    @CheckForNull
+    private BufferStrategy createBufferStrategy(@Nonnull final Canvas canvas) {
+        // The buffer strategy is created once the canvas is displayable. AWT uses page flipping with accelerated
+        // volatile images where the platform supports it, falling back to accelerated then unaccelerated blitting.
+        try {
+            canvas.createBufferStrategy(fullScreen ? FULL_SCREEN_BUFFERS : WINDOWED_BUFFERS);
+            final BufferStrategy strategy = canvas.getBufferStrategy();
+            LOGGER.info("Using active rendering with page flipping {}",
+                    strategy.getCapabilities().isPageFlipping() ? "enabled" : "disabled");
+            return strategy;
+        } catch (final IllegalStateException | IllegalArgumentException exception) {
+            // Fall back to drawing on the surface, which is painted by Swing.
+            LOGGER.warn("Unable to create a buffer strategy, falling back to passive rendering", exception);
+            frame.remove(canvas);
+            frame.add(surfacePanel);
+            frame.validate();
+            this.canvas = null;
+            return null;
+        }
     }
 
     private void hideWindow() {
+        final BufferStrategy strategy = bufferStrategy;
+        if (strategy != null) {
+            bufferStrategy = null;
+            strategy.dispose();
+        }
         frame.setVisible(false);
         frame.dispatchEvent(new WindowEvent(frame, WindowEvent.WINDOW_CLOSING));
         frame.dispose();
@@ -134,6 +300,12 @@ public class Display implements EventConsumer, KeyListener, MouseListener, Mouse
         }
     }
 
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
     @Override
     public void accept(@Nonnull final Event event) {
         if (event.getType() == EventType.START) {
@@ -144,12 +316,107 @@ public class Display implements EventConsumer, KeyListener, MouseListener, Mouse
     }
 
     /**
-     * Draw the game on the surface then render it.
+     * Draw the game on the surface then render it, unless nothing drawn has changed since the last frame. When active
+     * rendering is used the game is drawn directly into the back buffer, which is then shown, otherwise it is drawn
+     * into the surface image which is then repainted by Swing.
+     *
+     * @param interpolation the fraction of a simulation tick that has elapsed since the last tick, used to draw moving
+     * units between their previous and current locations
+     * @return whether a frame was drawn, which is {@code false} when the frame was skipped as nothing had changed
+     */
+    public boolean render(final double interpolation) {
+        if (!isChanged()) {
+            return false;
+        }
+        surface.setInterpolation(interpolation);
+
+        final BufferStrategy strategy = bufferStrategy;
+        final Canvas activeCanvas = canvas;
+        if (strategy != null && activeCanvas != null) {
+            renderActive(strategy, activeCanvas);
+        } else {
+            surface.beginFrame();
+            try {
+                drawSurface();
+            } finally {
+                surface.endFrame();
+            }
+            frame.repaint(System.currentTimeMillis(), 0, 0, frame.getWidth(), frame.getHeight());
+        }
+        return true;
+    }
+
+    private boolean isChanged() {
+        if (changeSources.isEmpty()) {
+            return true;
+        }
+
+        long version = 0;
+        boolean animating = false;
+        for (final ChangeSource changeSource : changeSources) {
+            version += changeSource.getVersion();
+            animating |= changeSource.isAnimating();
+        }
+        final long now = System.nanoTime();
+        final RenderQuality renderQuality = surface.getRenderQuality();
+        if (!animating && version == renderedVersion && renderQuality == renderedQuality
+                && now - renderedNanos < MAX_IDLE_NANOS) {
+            return false;
+        }
+
+        // The versions are read before drawing, so any changes made while the frame is drawn cause another frame.
+        renderedVersion = version;
+        renderedQuality = renderQuality;
+        renderedNanos = now;
+        return true;
+    }
+
+    /**
+     * Record the time taken by the last frame of the game loop, lowering the render quality when the frames are taking
+     * longer than the budget and raising it again when there is time to spare.
+     *
+     * @param frameNanos the time taken by the last frame in nanoseconds, including the simulation ticks performed
+     * @param budgetNanos the time available to each frame in nanoseconds
      */
-    public void render() {
-        surfaceConsumers.forEach(consumer -> consumer.accept(surface));
+    public void completeFrame(final long frameNanos, final long budgetNanos) {
+        final RenderQuality renderQuality = renderQualityController.update(frameNanos, budgetNanos);
+        if (surface != null) {
+            surface.setRenderQuality(renderQuality);
+        }
+    }
+
+    private void renderActive(@Nonnull final BufferStrategy strategy, @Nonnull final Canvas activeCanvas) {
+        // The contents of the volatile back buffer may be lost at any time, such as when the display mode changes, in
+        // which case the whole frame is drawn again so that no contents are lost.
+        do {
+            do {
+                final Graphics2D graphics = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    // Match the passive surface, which stretches the game to fill the component when it is resized.
+                    graphics.scale((double) activeCanvas.getWidth() / surface.getWidth(),
+                            (double) activeCanvas.getHeight() / surface.getHeight());
+                    surface.beginFrame(graphics);
+                    drawSurface();
+                } finally {
+                    surface.endFrame();
+                    graphics.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
 
-        frame.repaint(System.currentTimeMillis(), 0, 0, frame.getWidth(), frame.getHeight());
+        // Flush the window system, so frames are not buffered up by platforms such as X11.
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    private void drawSurface() {
+        // All of the surface consumers share the graphics of the frame, so undo the changes made by each in turn.
+        for (final Timed<SurfaceConsumer> surfaceConsumer : surfaceConsumers) {
+            surface.restoreGraphics();
+            final long start = System.nanoTime();
+            surfaceConsumer.getComponent().accept(surface);
+            surfaceConsumer.getHistogram().record(System.nanoTime() - start);
+        }
     }
 
     @Override
@@ -0,0 +1,133 @@
+package com.mday.ui;
+
+import com.mday.game.CoordinateSystem;
+import com.mday.model.Location;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Responsible for drawing layers that only change when the camera moves, such as the background and the grid. The
+ * layers are drawn into a cached image, which is copied onto the surface each frame and only drawn again when the
+ * center, scale or size of the coordinate system, or the render quality, has changed since it was drawn.
+ */
+public class LayerCache implements SurfaceConsumer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LayerCache.class);
+
+    private final boolean opaque;
+    @Nonnull
+    private final List<SurfaceConsumer> layers;
+
+    // The surface holding the cached image of the layers, and the camera state with which it was drawn.
+    @CheckForNull
+    private Surface layerSurface;
+    private double centerX;
+    private double centerY;
+    private double scale;
+    @CheckForNull
+    private RenderQuality renderQuality;
+    private boolean valid = false;
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param opaque whether the layers cover every pixel with opaque colors, as a background does, which allows the
+     * cached image to be copied without blending
+     * @param layers the surface consumers that draw the cached layers, from the bottom layer to the top
+     */
+    public LayerCache(final boolean opaque, @Nonnull final SurfaceConsumer... layers) {
+        this(opaque, Arrays.asList(layers));
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param opaque whether the layers cover every pixel with opaque colors, as a background does, which allows the
+     * cached image to be copied without blending
+     * @param layers the surface consumers that draw the cached layers, from the bottom layer to the top
+     */
+    public LayerCache(final boolean opaque, @Nonnull final List<SurfaceConsumer> layers) {
+        this.opaque = opaque;
+        this.layers = Collections.unmodifiableList(layers);
+    }
+
+    /**
+     * Discard the cached image, so the layers are drawn again on the next frame. This should be called when something
+     * other than the camera changes the appearance of the layers.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    @Override
+    public void accept(@Nonnull final Surface surface) {
+        final Surface cached = getLayerSurface(surface);
+        surface.getDrawGraphics().drawImage(cached.getBufferedImage(), 0, 0, null);
+    }
+
+    @Nonnull
+    private Surface getLayerSurface(@Nonnull final Surface surface) {
+        final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+        final Location center = coordinateSystem.getCenter();
+
+        Surface cached = layerSurface;
+        if (cached == null || cached.getBufferedImage().getWidth() != coordinateSystem.getWidth()
+                || cached.getBufferedImage().getHeight() != coordinateSystem.getHeight()) {
+            final BufferedImage image = createImage(coordinateSystem.getWidth(), coordinateSystem.getHeight());
+            cached = new Surface(coordinateSystem, image);
+            layerSurface = cached;
+            valid = false;
+        }
+
+        if (!valid || center.getX() != centerX || center.getY() != centerY || coordinateSystem.getScale() != scale
+                || surface.getRenderQuality() != renderQuality) {
+            centerX = center.getX();
+            centerY = center.getY();
+            scale = coordinateSystem.getScale();
+            renderQuality = surface.getRenderQuality();
+            drawLayers(cached, surface);
+            valid = true;
+        }
+        return cached;
+    }
+
+    private void drawLayers(@Nonnull final Surface cached, @Nonnull final Surface surface) {
+        LOGGER.trace("Drawing {} cached layers", layers.size());
+        cached.setInterpolation(surface.getInterpolation());
+        cached.setRenderQuality(surface.getRenderQuality());
+        cached.beginFrame();
+        try {
+            if (!opaque) {
+                // Clear the previous image, since the layers may not cover the whole of it.
+                final Graphics2D graphics = cached.getDrawGraphics();
+                graphics.setComposite(AlphaComposite.Clear);
+                graphics.fillRect(0, 0, cached.getWidth(), cached.getHeight());
+            }
+
+            for (final SurfaceConsumer layer : layers) {
+                cached.restoreGraphics();
+                layer.accept(cached);
+            }
+        } finally {
+            cached.endFrame();
+        }
+    }
+
+    @Nonnull
+    private BufferedImage createImage(final int width, final int height) {
+        // Use the format of the screen, so the image can be kept in video memory and copied by the graphics hardware
+        // while it is not changing.
+        return AssetManager.createCompatibleImage(
+                width, height, opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT);
+    }
+}
@@ -0,0 +1,98 @@
+package com.mday.ui;
+
+import static java.awt.RenderingHints.KEY_ALPHA_INTERPOLATION;
+import static java.awt.RenderingHints.KEY_ANTIALIASING;
+import static java.awt.RenderingHints.KEY_INTERPOLATION;
+import static java.awt.RenderingHints.KEY_RENDERING;
+import static java.awt.RenderingHints.KEY_TEXT_ANTIALIASING;
+import static java.awt.RenderingHints.VALUE_ALPHA_INTERPOLATION_DEFAULT;
+import static java.awt.RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY;
+import static java.awt.RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED;
+import static java.awt.RenderingHints.VALUE_ANTIALIAS_OFF;
+import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
+import static java.awt.RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+import static java.awt.RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR;
+import static java.awt.RenderingHints.VALUE_RENDER_DEFAULT;
+import static java.awt.RenderingHints.VALUE_RENDER_QUALITY;
+import static java.awt.RenderingHints.VALUE_RENDER_SPEED;
+import static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_GASP;
+import static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_OFF;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Defines the tiers of quality at which the game can be drawn, ordered from the best looking to the fastest.
+ */
+public enum RenderQuality {
+    /**
+     * Antialiased shapes and text, with bilinear image interpolation and high quality alpha blending.
+     */
+    QUALITY(createRenderingHints(VALUE_ANTIALIAS_ON, VALUE_TEXT_ANTIALIAS_GASP, VALUE_RENDER_QUALITY,
+            VALUE_INTERPOLATION_BILINEAR, VALUE_ALPHA_INTERPOLATION_QUALITY)),
+
+    /**
+     * Antialiased shapes and text, with bilinear image interpolation and the default rendering and alpha blending.
+     */
+    BALANCED(createRenderingHints(VALUE_ANTIALIAS_ON, VALUE_TEXT_ANTIALIAS_GASP, VALUE_RENDER_DEFAULT,
+            VALUE_INTERPOLATION_BILINEAR, VALUE_ALPHA_INTERPOLATION_DEFAULT)),
+
+    /**
+     * Aliased shapes and text, with nearest neighbor image interpolation and fast alpha blending.
+     */
+    SPEED(createRenderingHints(VALUE_ANTIALIAS_OFF, VALUE_TEXT_ANTIALIAS_OFF, VALUE_RENDER_SPEED,
+            VALUE_INTERPOLATION_NEAREST_NEIGHBOR, VALUE_ALPHA_INTERPOLATION_SPEED));
+
+    @Nonnull
+    private final RenderingHints renderingHints;
+
+    RenderQuality(@Nonnull final RenderingHints renderingHints) {
+        this.renderingHints = renderingHints;
+    }
+
+    /**
+     * Replace the rendering hints of the provided graphics with those of this quality tier.
+     *
+     * @param graphics the graphics whose rendering hints are to be set
+     */
+    public void apply(@Nonnull final Graphics2D graphics) {
+        graphics.setRenderingHints(renderingHints);
+    }
+
+    /**
+     * Retrieve the next faster quality tier.
+     *
+     * @return the next faster quality tier, or this tier if it is already the fastest
+     */
+    @Nonnull
+    public RenderQuality lower() {
+        final RenderQuality[] values = values();
+        return values[Math.min(ordinal() + 1, values.length - 1)];
+    }
+
+    /**
+     * Retrieve the next better looking quality tier.
+     *
+     * @return the next better looking quality tier, or this tier if it is already the best looking
+     */
+    @Nonnull
+    public RenderQuality higher() {
+        return values()[Math.max(ordinal() - 1, 0)];
+    }
+
+    @Nonnull
+    private static RenderingHints createRenderingHints(
+            @Nonnull final Object antialiasing, @Nonnull final Object textAntialiasing,
+            @Nonnull final Object rendering, @Nonnull final Object interpolation,
+            @Nonnull final Object alphaInterpolation) {
+        final RenderingHints renderingHints = new RenderingHints(null);
+        renderingHints.put(KEY_ANTIALIASING, antialiasing);
+        renderingHints.put(KEY_TEXT_ANTIALIASING, textAntialiasing);
+        renderingHints.put(KEY_RENDERING, rendering);
+        renderingHints.put(KEY_INTERPOLATION, interpolation);
+        renderingHints.put(KEY_ALPHA_INTERPOLATION, alphaInterpolation);
+        return renderingHints;
+    }
+}
@@ -0,0 +1,105 @@
+package com.mday.ui;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Responsible for choosing the render quality tier from the measured frame times, so the frame rate is held when
+ * there is a lot to draw. The quality is lowered one tier when the smoothed frame time exceeds the frame budget, and
+ * raised one tier when it falls well within the budget. After each change the frame times are allowed to settle
+ * before the quality is changed again, so the quality does not oscillate between tiers.
+ *
+ * <p>This class is intended to be used by the game loop thread only.</p>
+ */
+public class RenderQualityController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RenderQualityController.class);
+
+    // The weight of each new frame time in the smoothed frame time.
+    private static final double SMOOTHING = 0.1;
+
+    // The fraction of the frame budget below which the smoothed frame time must fall to raise the quality.
+    private static final double HEADROOM = 0.6;
+
+    // The number of frames after a change in quality before the quality may change again.
+    private static final int SETTLE_FRAMES = 60;
+
+    @Nonnull
+    private final RenderQuality highest;
+    @Nonnull
+    private final RenderQuality lowest;
+
+    @Nonnull
+    private volatile RenderQuality renderQuality;
+    private double averageFrameNanos = -1;
+    private int framesSinceChange = 0;
+
+    /**
+     * Create an instance of this class, which may use any of the quality tiers.
+     */
+    public RenderQualityController() {
+        this(RenderQuality.QUALITY, RenderQuality.SPEED);
+    }
+
+    /**
+     * Create an instance of this class. Providing the same tier for both the highest and lowest quality disables the
+     * automatic changes, fixing the render quality.
+     *
+     * @param highest the best looking quality tier that may be used, which is the initial tier
+     * @param lowest the fastest quality tier that may be used
+     */
+    public RenderQualityController(@Nonnull final RenderQuality highest, @Nonnull final RenderQuality lowest) {
+        if (highest.compareTo(lowest) > 0) {
+            throw new IllegalArgumentException("The highest quality tier must not be faster than the lowest");
+        }
+        this.highest = highest;
+        this.lowest = lowest;
+        this.renderQuality = highest;
+    }
+
+    /**
+     * Retrieve the quality tier at which the game should be drawn.
+     *
+     * @return the current render quality tier
+     */
+    @Nonnull
+    public RenderQuality getRenderQuality() {
+        return renderQuality;
+    }
+
+    /**
+     * Record the time taken by a frame, changing the quality tier if the frame times have moved outside of the budget.
+     *
+     * @param frameNanos the time taken by the frame in nanoseconds
+     * @param budgetNanos the time available to each frame in nanoseconds
+     * @return the quality tier at which the next frame should be drawn
+     */
+    @Nonnull
+    public RenderQuality update(final long frameNanos, final long budgetNanos) {
+        if (averageFrameNanos < 0) {
+            averageFrameNanos = frameNanos;
+        } else {
+            averageFrameNanos += SMOOTHING * (frameNanos - averageFrameNanos);
+        }
+
+        if (++framesSinceChange >= SETTLE_FRAMES) {
+            final RenderQuality current = renderQuality;
+            if (averageFrameNanos > budgetNanos && current.compareTo(lowest) < 0) {
+                changeRenderQuality(current.lower());
+            } else if (averageFrameNanos < budgetNanos * HEADROOM && current.compareTo(highest) > 0) {
+                changeRenderQuality(current.higher());
+            }
+        }
+        return renderQuality;
+    }
+
+    private void changeRenderQuality(@Nonnull final RenderQuality newRenderQuality) {
+        LOGGER.info("Changing render quality from {} to {} with an average frame time of {} us", renderQuality,
+                newRenderQuality, NANOSECONDS.toMicros((long) averageFrameNanos));
+        renderQuality = newRenderQuality;
+        framesSinceChange = 0;
+    }
+}
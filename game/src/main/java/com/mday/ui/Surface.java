@@ -1,11 +1,5 @@
 package com.mday.ui;
 
-import static java.awt.RenderingHints.KEY_ANTIALIASING;
-import static java.awt.RenderingHints.KEY_RENDERING;
-import static java.awt.RenderingHints.KEY_TEXT_ANTIALIASING;
-import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
-import static java.awt.RenderingHints.VALUE_RENDER_QUALITY;
-import static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_GASP;
 import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
 
 import com.mday.game.CoordinateSystem;
@@ -13,54 +7,84 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.awt.Dimension;
+import java.awt.Composite;
 import java.awt.Font;
-import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
-import javax.swing.JPanel;
 
 /**
- * Represents the display surface on which the game graphics will be drawn.
+ * Represents the display surface on which the game graphics will be drawn. A surface only holds the image and the
+ * graphics of the frame being drawn, so surfaces are cheap to create for off-screen drawing such as cached layers and
+ * tiles, and the surface of the display is shown by a Swing panel or drawn onto a canvas.
  */
-public class Surface extends JPanel {
-    private static final long serialVersionUID = 1L;
+public class Surface {
     private static final Logger LOGGER = LoggerFactory.getLogger(Surface.class);
 
+    private static final Font FONT = new Font("Dialog", Font.PLAIN, 12);
+
+    @Nonnull
+    private final BufferedImage bufferedImage;
     @Nonnull
-    private final transient BufferedImage bufferedImage;
+    private final CoordinateSystem coordinateSystem;
+
+    private double interpolation = 1.0;
     @Nonnull
-    private final transient CoordinateSystem coordinateSystem;
+    private volatile RenderQuality renderQuality = RenderQuality.QUALITY;
+
+    // The graphics shared by all of the game elements drawn during the current frame, and its state at the start of
+    // the frame which is restored before each surface consumer draws.
+    @CheckForNull
+    private Graphics2D frameGraphics;
+    @Nonnull
+    private final AffineTransform frameTransform = new AffineTransform();
+    @CheckForNull
+    private Shape frameClip;
+    @CheckForNull
+    private Paint framePaint;
+    @CheckForNull
+    private Stroke frameStroke;
+    @CheckForNull
+    private Composite frameComposite;
+    @Nonnull
+    private RenderQuality frameRenderQuality = RenderQuality.QUALITY;
 
     /**
-     * Create an instance of this class.
+     * Create an instance of this class, to be shown on the display.
      *
      * @param coordinateSystem the coordinate system managing locations on this draw surface
      */
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED_NO_SIDE_EFFECT")
     public Surface(@Nonnull final CoordinateSystem coordinateSystem) {
-        setSize(coordinateSystem.getWidth(), coordinateSystem.getHeight());
-        setPreferredSize(new Dimension(coordinateSystem.getWidth(), coordinateSystem.getHeight()));
-        this.coordinateSystem = coordinateSystem;
+        this(coordinateSystem,
+                new BufferedImage(coordinateSystem.getWidth(), coordinateSystem.getHeight(), TYPE_INT_ARGB));
 
-        bufferedImage = new BufferedImage(coordinateSystem.getWidth(), coordinateSystem.getHeight(), TYPE_INT_ARGB);
-
-        final Graphics2D graphics = (Graphics2D) bufferedImage.getGraphics();
+        final Graphics2D graphics = bufferedImage.createGraphics();
 
         // NOTE: Loading the font metrics here takes a long time. See the bug report:
         // https://bugs.openjdk.java.net/browse/JDK-8179209
         // We call getFontMetrics here before the JFrame is shown to prevent an empty frame from being displayed.
-        graphics.setFont(new Font("Dialog", Font.PLAIN, 12));
+        graphics.setFont(FONT);
         graphics.getFontMetrics();
+        graphics.dispose();
     }
 
-    @Override
-    protected void paintComponent(@Nonnull final Graphics graphics) {
-        super.paintComponent(graphics);
-        graphics.drawImage(getBufferedImage(), 0, 0, getWidth(), getHeight(), null);
+    /**
+     * Create an instance of this class that draws onto the provided image, such as an off-screen layer or tile. Unlike
+     * the surface of the display this does not load the font metrics, so it is cheap to create.
+     *
+     * @param coordinateSystem the coordinate system managing locations on this draw surface
+     * @param bufferedImage the image onto which frames are drawn, which should be the size of the coordinate system
+     */
+    Surface(@Nonnull final CoordinateSystem coordinateSystem, @Nonnull final BufferedImage bufferedImage) {
+        this.coordinateSystem = coordinateSystem;
+        this.bufferedImage = bufferedImage;
     }
 
     /**
@@ -73,24 +97,149 @@ public class Surface extends JPanel {
         return coordinateSystem;
     }
 
+    /**
+     * Retrieve the width of this surface in pixels, which is the width of its coordinate system.
+     *
+     * @return the width of this surface in pixels
+     */
+    public int getWidth() {
+        return coordinateSystem.getWidth();
+    }
+
+    /**
+     * Retrieve the height of this surface in pixels, which is the height of its coordinate system.
+     *
+     * @return the height of this surface in pixels
+     */
+    public int getHeight() {
+        return coordinateSystem.getHeight();
+    }
+
+    /**
+     * Retrieve the fraction of a simulation tick that has elapsed since the last tick was performed.
+     *
+     * @return the interpolation value, between 0 (the previous tick state) and 1 (the current tick state)
+     */
+    public double getInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Set the fraction of a simulation tick that has elapsed since the last tick was performed.
+     *
+     * @param interpolation the new interpolation value, between 0 (the previous tick state) and 1 (the current tick
+     * state)
+     */
+    public void setInterpolation(final double interpolation) {
+        this.interpolation = interpolation;
+    }
+
+    /**
+     * Retrieve the quality tier at which frames are drawn on this surface.
+     *
+     * @return the render quality tier
+     */
+    @Nonnull
+    public RenderQuality getRenderQuality() {
+        return renderQuality;
+    }
+
+    /**
+     * Set the quality tier at which frames are drawn on this surface, which takes effect from the next frame.
+     *
+     * @param renderQuality the new render quality tier
+     */
+    public void setRenderQuality(@Nonnull final RenderQuality renderQuality) {
+        this.renderQuality = renderQuality;
+    }
+
+    /**
+     * Start drawing a frame onto the image held by this surface.
+     */
+    void beginFrame() {
+        final Graphics2D graphics = bufferedImage.createGraphics();
+        try {
+            beginFrame(graphics);
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Start drawing a frame onto the provided graphics, such as the back buffer of a buffer strategy, in place of the
+     * image held by this surface. The provided graphics is not modified, and remains owned by
+     * the caller.
+     *
+     * @param targetGraphics the graphics onto which game elements are drawn during the frame
+     */
+    void beginFrame(@Nonnull final Graphics2D targetGraphics) {
+        if (frameGraphics != null) {
+            throw new IllegalStateException("The previous frame has not ended");
+        }
+        final Graphics2D graphics = (Graphics2D) targetGraphics.create();
+        frameRenderQuality = renderQuality;
+        frameRenderQuality.apply(graphics);
+        graphics.setFont(FONT);
+
+        frameTransform.setTransform(graphics.getTransform());
+        frameClip = graphics.getClip();
+        framePaint = graphics.getPaint();
+        frameStroke = graphics.getStroke();
+        frameComposite = graphics.getComposite();
+        frameGraphics = graphics;
+    }
+
+    /**
+     * Restore the graphics of the current frame to its state at the start of the frame, undoing any changes made by
+     * the previous surface consumer such as its color, stroke or transform.
+     */
+    void restoreGraphics() {
+        final Graphics2D graphics = frameGraphics;
+        if (graphics != null) {
+            graphics.setTransform(frameTransform);
+            graphics.setClip(frameClip);
+            graphics.setPaint(framePaint);
+            graphics.setStroke(frameStroke);
+            graphics.setComposite(frameComposite);
+            frameRenderQuality.apply(graphics);
+            graphics.setFont(FONT);
+        }
+    }
+
+    /**
+     * Finish drawing the current frame, releasing its graphics.
+     */
+    void endFrame() {
+        final Graphics2D graphics = frameGraphics;
+        if (graphics != null) {
+            frameGraphics = null;
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Retrieve the image onto which frames are drawn when no other graphics is provided.
+     *
+     * @return the image held by this surface
+     */
     @Nonnull
-    private BufferedImage getBufferedImage() {
+    BufferedImage getBufferedImage() {
         return bufferedImage;
     }
 
     /**
-     * Retrieve the graphics on which to draw game elements.
+     * Retrieve the graphics on which to draw game elements. The same graphics is shared by everything drawn during a
+     * frame, and is restored to its initial state before each surface consumer draws, so it must not be disposed.
      *
      * @return a {@link Graphics2D} on which to draw game elements
+     * @throws IllegalStateException if no frame is being drawn
      */
     @Nonnull
     public Graphics2D getDrawGraphics() {
-        final Graphics2D graphics = (Graphics2D) bufferedImage.getGraphics();
-        final RenderingHints renderingHints = new RenderingHints(null);
-        renderingHints.put(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
-        renderingHints.put(KEY_TEXT_ANTIALIASING, VALUE_TEXT_ANTIALIAS_GASP);
-        renderingHints.put(KEY_RENDERING, VALUE_RENDER_QUALITY);
-        graphics.setRenderingHints(renderingHints);
+        final Graphics2D graphics = frameGraphics;
+        if (graphics == null) {
+            throw new IllegalStateException("The surface can only be drawn on during a frame");
+        }
         return graphics;
     }
 }
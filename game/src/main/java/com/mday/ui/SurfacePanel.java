@@ -0,0 +1,38 @@
+package com.mday.ui;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Dimension;
+import java.awt.Graphics;
+
+import javax.annotation.Nonnull;
+import javax.swing.JPanel;
+
+/**
+ * The Swing component that shows the image of the display surface, stretched to fill the component.
+ */
+class SurfacePanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = LoggerFactory.getLogger(SurfacePanel.class);
+
+    @Nonnull
+    private final transient Surface surface;
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param surface the surface whose image is shown by this component
+     */
+    SurfacePanel(@Nonnull final Surface surface) {
+        this.surface = surface;
+        setSize(surface.getWidth(), surface.getHeight());
+        setPreferredSize(new Dimension(surface.getWidth(), surface.getHeight()));
+    }
+
+    @Override
+    protected void paintComponent(@Nonnull final Graphics graphics) {
+        super.paintComponent(graphics);
+        graphics.drawImage(surface.getBufferedImage(), 0, 0, getWidth(), getHeight(), null);
+    }
+}
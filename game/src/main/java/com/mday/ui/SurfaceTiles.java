@@ -0,0 +1,214 @@
+package com.mday.ui;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB_PRE;
+
+import com.mday.game.CoordinateSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntPredicate;
+import java.util.function.ObjIntConsumer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Responsible for drawing a layer of a frame in parallel, by splitting the surface into a grid of tiles. Each tile is
+ * drawn into its own image by a thread of a fork-join pool, through a tile surface on which game elements are drawn
+ * using the coordinates of the whole surface, and the tile images are then copied onto the surface. Only the tiles
+ * with something to draw are drawn and copied.
+ *
+ * <p>The tiles are laid out and drawn by the render thread, and each tile is only drawn by one thread at a time.</p>
+ */
+public class SurfaceTiles {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SurfaceTiles.class);
+
+    private final int columns;
+    private final int rows;
+    @Nonnull
+    private final ForkJoinPool forkJoinPool;
+
+    private int width = 0;
+    private int height = 0;
+    private int tileWidth = 0;
+    private int tileHeight = 0;
+    @Nonnull
+    private final List<Surface> tileSurfaces = new ArrayList<>();
+    // Whether each tile image holds anything drawn during a previous frame, and so needs to be cleared before reuse.
+    @Nonnull
+    private final boolean[] dirty;
+    // Whether each tile is drawn during the current frame.
+    @Nonnull
+    private final boolean[] drawn;
+
+    /**
+     * Create an instance of this class, drawing the tiles on the common fork-join pool.
+     *
+     * @param columns the number of columns of tiles
+     * @param rows the number of rows of tiles
+     */
+    public SurfaceTiles(final int columns, final int rows) {
+        this(columns, rows, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param columns the number of columns of tiles
+     * @param rows the number of rows of tiles
+     * @param forkJoinPool the pool on whose threads the tiles are drawn
+     */
+    public SurfaceTiles(final int columns, final int rows, @Nonnull final ForkJoinPool forkJoinPool) {
+        if (columns <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("The number of columns and rows must be positive");
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.forkJoinPool = forkJoinPool;
+        this.dirty = new boolean[columns * rows];
+        this.drawn = new boolean[columns * rows];
+    }
+
+    /**
+     * Retrieve the number of tiles, which are numbered along each row from the top left tile.
+     *
+     * @return the number of tiles
+     */
+    public int getTileCount() {
+        return columns * rows;
+    }
+
+    /**
+     * Retrieve the number of columns of tiles.
+     *
+     * @return the number of columns of tiles
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Retrieve the number of rows of tiles.
+     *
+     * @return the number of rows of tiles
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Retrieve the width of each tile in pixels, as laid out for the last surface.
+     *
+     * @return the width of each tile in pixels
+     */
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    /**
+     * Retrieve the height of each tile in pixels, as laid out for the last surface.
+     *
+     * @return the height of each tile in pixels
+     */
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    /**
+     * Lay out the tiles to cover the provided surface, creating new tile images if the size of the surface changed.
+     *
+     * @param surface the surface to be covered by the tiles
+     */
+    public void layout(@Nonnull final Surface surface) {
+        if (surface.getWidth() == width && surface.getHeight() == height && !tileSurfaces.isEmpty()) {
+            return;
+        }
+        width = surface.getWidth();
+        height = surface.getHeight();
+        tileWidth = Math.max(1, (width + columns - 1) / columns);
+        tileHeight = Math.max(1, (height + rows - 1) / rows);
+        LOGGER.debug("Laying out {} by {} tiles of {} by {} pixels", columns, rows, tileWidth, tileHeight);
+
+        final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+        tileSurfaces.clear();
+        for (int tile = 0; tile < getTileCount(); tile++) {
+            final BufferedImage image = new BufferedImage(tileWidth, tileHeight, TYPE_INT_ARGB_PRE);
+            tileSurfaces.add(new Surface(coordinateSystem, image));
+            dirty[tile] = false;
+        }
+    }
+
+    /**
+     * Draw the occupied tiles in parallel, then copy them onto the provided surface in tile order. The tiles must
+     * have been laid out for the surface.
+     *
+     * @param surface the surface onto which the tiles are copied, during its current frame
+     * @param occupied determines whether a tile has anything to draw, given the tile number
+     * @param tileDrawer draws a tile onto the provided tile surface, given the tile number
+     */
+    public void draw(
+            @Nonnull final Surface surface, @Nonnull final IntPredicate occupied,
+            @Nonnull final ObjIntConsumer<Surface> tileDrawer) {
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(getTileCount());
+        for (int tile = 0; tile < getTileCount(); tile++) {
+            drawn[tile] = occupied.test(tile);
+            if (drawn[tile]) {
+                final int index = tile;
+                tasks.add(ForkJoinTask.adapt(() -> drawTile(surface, index, tileDrawer)));
+            }
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+        forkJoinPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+        final Graphics2D graphics = surface.getDrawGraphics();
+        for (int tile = 0; tile < getTileCount(); tile++) {
+            if (drawn[tile]) {
+                graphics.drawImage(tileSurfaces.get(tile).getBufferedImage(), getTileX(tile), getTileY(tile), null);
+            }
+        }
+    }
+
+    private void drawTile(
+            @Nonnull final Surface surface, final int tile, @Nonnull final ObjIntConsumer<Surface> tileDrawer) {
+        final Surface tileSurface = tileSurfaces.get(tile);
+        tileSurface.setInterpolation(surface.getInterpolation());
+        tileSurface.setRenderQuality(surface.getRenderQuality());
+
+        final Graphics2D graphics = tileSurface.getBufferedImage().createGraphics();
+        try {
+            if (dirty[tile]) {
+                graphics.setComposite(AlphaComposite.Clear);
+                graphics.fillRect(0, 0, tileWidth, tileHeight);
+                graphics.setComposite(AlphaComposite.SrcOver);
+            }
+            dirty[tile] = true;
+
+            // Draw using the coordinates of the whole surface, offset to this tile.
+            graphics.translate(-getTileX(tile), -getTileY(tile));
+            tileSurface.beginFrame(graphics);
+            try {
+                tileDrawer.accept(tileSurface, tile);
+            } finally {
+                tileSurface.endFrame();
+            }
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    private int getTileX(final int tile) {
+        return (tile % columns) * tileWidth;
+    }
+
+    private int getTileY(final int tile) {
+        return (tile / columns) * tileHeight;
+    }
+}
@@ -16,10 +16,12 @@ import javax.annotation.Nonnull;
 public class BackgroundRenderer implements SurfaceConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BackgroundRenderer.class);
 
+    private static final Color BACKGROUND_COLOR = new Color(10, 10, 10);
+
     @Override
     public void accept(@Nonnull final Surface surface) {
         final Graphics2D graphics = surface.getDrawGraphics();
-        graphics.setColor(new Color(10, 10, 10));
+        graphics.setColor(BACKGROUND_COLOR);
         graphics.fillRect(0, 0, surface.getWidth(), surface.getHeight());
     }
 }
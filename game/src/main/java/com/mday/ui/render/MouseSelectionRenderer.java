@@ -4,10 +4,13 @@ import static java.awt.event.MouseEvent.BUTTON1;
 import static java.awt.event.MouseEvent.MOUSE_DRAGGED;
 import static java.awt.event.MouseEvent.MOUSE_PRESSED;
 import static java.awt.event.MouseEvent.MOUSE_RELEASED;
+import static java.util.Collections.unmodifiableSet;
 
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.input.MouseEvent;
+import com.mday.game.ChangeSource;
 import com.mday.ui.Surface;
 import com.mday.ui.SurfaceConsumer;
 import org.slf4j.Logger;
@@ -15,15 +18,20 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 
 /**
  * Responsible for drawing the mouse selection rectangle.
  */
-public class MouseSelectionRenderer implements SurfaceConsumer, EventConsumer {
+public class MouseSelectionRenderer implements SurfaceConsumer, EventConsumer, ChangeSource {
     private static final Logger LOGGER = LoggerFactory.getLogger(MouseSelectionRenderer.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.MOUSE));
+
     private boolean startDraw = false;
     private boolean endDraw = false;
 
@@ -32,6 +40,9 @@ public class MouseSelectionRenderer implements SurfaceConsumer, EventConsumer {
     private int endX = 0;
     private int endY = 0;
 
+    @Nonnull
+    private final AtomicLong version = new AtomicLong();
+
     @Override
     public void accept(@Nonnull final Surface surface) {
         if (startDraw) {
@@ -47,9 +58,22 @@ public class MouseSelectionRenderer implements SurfaceConsumer, EventConsumer {
         if (endDraw) {
             startDraw = false;
             endDraw = false;
+            // Draw another frame without the selection rectangle.
+            version.incrementAndGet();
         }
     }
 
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
     @Override
     public void accept(@Nonnull final Event event) {
         if (event instanceof MouseEvent) {
@@ -63,10 +87,12 @@ public class MouseSelectionRenderer implements SurfaceConsumer, EventConsumer {
                     startDraw = true;
                     endX = mouseEvent.getMouseEvent().getX();
                     endY = mouseEvent.getMouseEvent().getY();
+                    version.incrementAndGet();
                 } else if (mouseEvent.getMouseEvent().getID() == MOUSE_RELEASED) {
                     endDraw = true;
                     endX = mouseEvent.getMouseEvent().getX();
                     endY = mouseEvent.getMouseEvent().getY();
+                    version.incrementAndGet();
                 }
             }
         }
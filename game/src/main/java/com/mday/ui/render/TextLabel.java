@@ -0,0 +1,134 @@
+package com.mday.ui.render;
+
+import static java.awt.RenderingHints.KEY_TEXT_ANTIALIASING;
+import static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_ON;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB_PRE;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Holds a line of text that has already been drawn into an image, so drawing the text each frame is a plain copy of
+ * pixels instead of laying out and filling glyphs. The image is only drawn again when the text changes.
+ *
+ * <p>This class is intended to be used by the render thread only.</p>
+ */
+public class TextLabel {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TextLabel.class);
+
+    @Nonnull
+    private final Font font;
+    @Nonnull
+    private final Color color;
+    @Nonnull
+    private final FontMetrics fontMetrics;
+
+    @Nonnull
+    private String text = "";
+    @CheckForNull
+    private BufferedImage image = null;
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param font the font in which the text is drawn
+     * @param color the color in which the text is drawn
+     */
+    public TextLabel(@Nonnull final Font font, @Nonnull final Color color) {
+        this.font = font;
+        this.color = color;
+
+        // Measure the text using a scratch image, since the size of each label image depends on its text.
+        final Graphics2D graphics = new BufferedImage(1, 1, TYPE_INT_ARGB_PRE).createGraphics();
+        try {
+            graphics.setRenderingHint(KEY_TEXT_ANTIALIASING, VALUE_TEXT_ANTIALIAS_ON);
+            this.fontMetrics = graphics.getFontMetrics(font);
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Retrieve the text of this label.
+     *
+     * @return the text of this label
+     */
+    @Nonnull
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Change the text of this label, drawing it into a new image if it differs from the current text.
+     *
+     * @param text the new text of this label
+     */
+    public void setText(@Nonnull final String text) {
+        if (!this.text.equals(text)) {
+            this.text = text;
+            render();
+        }
+    }
+
+    /**
+     * Retrieve the width of the text of this label in pixels.
+     *
+     * @return the width of the text of this label in pixels
+     */
+    public int getWidth() {
+        final BufferedImage labelImage = image;
+        return labelImage == null ? 0 : labelImage.getWidth();
+    }
+
+    /**
+     * Retrieve the height of a line of text in the font of this label in pixels, including the space between lines.
+     *
+     * @return the height of a line of text in pixels
+     */
+    public int getHeight() {
+        return fontMetrics.getHeight();
+    }
+
+    /**
+     * Draw the text of this label, in the same place as it would be drawn by {@link Graphics2D#drawString}.
+     *
+     * @param graphics the graphics onto which the label is drawn
+     * @param x the left side of the text
+     * @param y the baseline of the text
+     */
+    public void draw(@Nonnull final Graphics2D graphics, final int x, final int y) {
+        final BufferedImage labelImage = image;
+        if (labelImage != null) {
+            graphics.drawImage(labelImage, x, y - fontMetrics.getAscent(), null);
+        }
+    }
+
+    private void render() {
+        final int width = fontMetrics.stringWidth(text);
+        if (width <= 0) {
+            image = null;
+            return;
+        }
+        final BufferedImage labelImage =
+                new BufferedImage(width, fontMetrics.getAscent() + fontMetrics.getDescent(), TYPE_INT_ARGB_PRE);
+        final Graphics2D graphics = labelImage.createGraphics();
+        try {
+            graphics.setRenderingHint(KEY_TEXT_ANTIALIASING, VALUE_TEXT_ANTIALIAS_ON);
+            graphics.setFont(font);
+            graphics.setColor(color);
+            graphics.drawString(text, 0, fontMetrics.getAscent());
+        } finally {
+            graphics.dispose();
+        }
+        image = labelImage;
+    }
+}
@@ -1,55 +1,172 @@
 package com.mday.ui.render;
 
 import static com.mday.model.UnitType.SHIP;
-import static java.util.Optional.ofNullable;
 
+import com.mday.game.ChangeSource;
+import com.mday.game.CoordinateSystem;
 import com.mday.game.Units;
+import com.mday.ui.AssetManager;
 import com.mday.ui.Surface;
 import com.mday.ui.SurfaceConsumer;
+import com.mday.ui.SurfaceTiles;
+import com.mday.ui.render.unit.AbstractUnitRenderer;
+import com.mday.ui.render.unit.ShipAtlas;
 import com.mday.ui.render.unit.ShipRenderer;
+import com.mday.ui.render.unit.SpriteCache;
 import com.mday.model.Unit;
 import com.mday.model.UnitType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiConsumer;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
- * Responsible for drawing the units.
+ * Responsible for drawing the units. The units are either drawn one after another on the render thread, or split
+ * across a grid of tiles that are drawn in parallel, in which case each tile has its own unit renderers so the batches
+ * collected by each renderer are not shared between threads.
  */
-public class UnitRenderer implements SurfaceConsumer {
+public class UnitRenderer implements SurfaceConsumer, ChangeSource {
     private static final Logger LOGGER = LoggerFactory.getLogger(UnitRenderer.class);
 
+    // Units are drawn a little beyond their radius by the corners of rotated ship images and the selection circles, so
+    // they are added to every tile within this many radii of their center, plus a margin in pixels.
+    private static final double EXTENT = 1.25;
+    private static final int MARGIN = 2;
+
     @Nonnull
     private final Units units;
+    @CheckForNull
+    private final SurfaceTiles surfaceTiles;
 
+    // The unit renderers used for each tile, or only the first when the units are not drawn in tiles.
+    @Nonnull
+    private final List<Map<UnitType, AbstractUnitRenderer>> unitRenderers = new ArrayList<>();
+    // The units to be drawn on each tile during the current frame.
     @Nonnull
-    private final ConcurrentHashMap<UnitType, BiConsumer<Unit, Surface>> unitRenderers = new ConcurrentHashMap<>();
+    private final List<List<Unit>> tileUnits = new ArrayList<>();
+
+    /**
+     * Create an instance of this class that draws the units one after another. The unit images are loaded in the
+     * background, and placeholders are drawn for the units until they are available.
+     *
+     * @param units the container of all the known units
+     * @param assetManager the asset manager used to load the unit images
+     */
+    public UnitRenderer(@Nonnull final Units units, @Nonnull final AssetManager assetManager) {
+        this(units, assetManager, null);
+    }
 
     /**
-     * Create an instance of this class.
+     * Create an instance of this class. The unit images are loaded in the background, and placeholders are drawn for
+     * the units until they are available.
      *
      * @param units the container of all the known units
-     * @throws IOException if there is a problem loading an image
+     * @param assetManager the asset manager used to load the unit images
+     * @param surfaceTiles the tiles into which the units are split to be drawn in parallel, or {@code null} to draw
+     * the units one after another on the render thread
      */
-    public UnitRenderer(@Nonnull final Units units) throws IOException {
+    public UnitRenderer(
+            @Nonnull final Units units, @Nonnull final AssetManager assetManager,
+            @Nullable final SurfaceTiles surfaceTiles) {
         this.units = units;
+        this.surfaceTiles = surfaceTiles;
+
+        // The ship images are loaded once, and the scaled and rotated sprites are shared by all of the tiles.
+        final CompletableFuture<ShipAtlas> shipAtlas =
+                assetManager.loadImage(ShipAtlas.DEFAULT_IMAGE_RESOURCE).thenApply(ShipAtlas::new);
+        final SpriteCache spriteCache = new SpriteCache();
+        final int lanes = surfaceTiles == null ? 1 : surfaceTiles.getTileCount();
+        for (int lane = 0; lane < lanes; lane++) {
+            final Map<UnitType, AbstractUnitRenderer> renderers = new ConcurrentHashMap<>();
+            renderers.put(SHIP, new ShipRenderer(shipAtlas, spriteCache));
+            unitRenderers.add(renderers);
+            tileUnits.add(new ArrayList<>());
+        }
+    }
 
-        unitRenderers.put(SHIP, new ShipRenderer());
+    @Override
+    public long getVersion() {
+        long version = 0;
+        for (final Map<UnitType, AbstractUnitRenderer> renderers : unitRenderers) {
+            for (final AbstractUnitRenderer unitRenderer : renderers.values()) {
+                version += unitRenderer.getVersion();
+            }
+        }
+        return version;
     }
 
     @Override
     public void accept(@Nonnull final Surface surface) {
-        units.getAll().stream()
-                .filter(unit -> surface.getCoordinateSystem().contains(unit.getLocation(), unit.getRadius()))
-                .forEach(unit -> renderUnit(unit, surface));
+        final SurfaceTiles tiles = surfaceTiles;
+        if (tiles == null) {
+            final Map<UnitType, AbstractUnitRenderer> renderers = unitRenderers.get(0);
+            final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+            units.forEachInRect(coordinateSystem.getTopLeft(), coordinateSystem.getBottomRight(),
+                    unit -> renderUnit(renderers, unit, surface));
+            flush(renderers, surface);
+        } else {
+            acceptTiled(tiles, surface);
+        }
+    }
+
+    private void acceptTiled(@Nonnull final SurfaceTiles tiles, @Nonnull final Surface surface) {
+        tiles.layout(surface);
+        for (final List<Unit> unitList : tileUnits) {
+            unitList.clear();
+        }
+
+        final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+        units.forEachInRect(coordinateSystem.getTopLeft(), coordinateSystem.getBottomRight(),
+                unit -> assignTiles(tiles, unit, surface));
+
+        tiles.draw(surface, tile -> !tileUnits.get(tile).isEmpty(), (tileSurface, tile) -> {
+            final Map<UnitType, AbstractUnitRenderer> renderers = unitRenderers.get(tile);
+            for (final Unit unit : tileUnits.get(tile)) {
+                renderUnit(renderers, unit, tileSurface);
+            }
+            flush(renderers, tileSurface);
+        });
+    }
+
+    private void assignTiles(
+            @Nonnull final SurfaceTiles tiles, @Nonnull final Unit unit, @Nonnull final Surface surface) {
+        final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+        final double x = coordinateSystem.toPointX(unit.getInterpolatedX(surface.getInterpolation()));
+        final double y = coordinateSystem.toPointY(unit.getInterpolatedY(surface.getInterpolation()));
+        final double extent = unit.getRadius() * coordinateSystem.getScale() * EXTENT + MARGIN;
+
+        final int firstColumn = Math.max(0, (int) Math.floor((x - extent) / tiles.getTileWidth()));
+        final int lastColumn = Math.min(tiles.getColumns() - 1, (int) Math.floor((x + extent) / tiles.getTileWidth()));
+        final int firstRow = Math.max(0, (int) Math.floor((y - extent) / tiles.getTileHeight()));
+        final int lastRow = Math.min(tiles.getRows() - 1, (int) Math.floor((y + extent) / tiles.getTileHeight()));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                tileUnits.get(row * tiles.getColumns() + column).add(unit);
+            }
+        }
+    }
+
+    private void renderUnit(
+            @Nonnull final Map<UnitType, AbstractUnitRenderer> renderers, @Nonnull final Unit unit,
+            @Nonnull final Surface surface) {
+        final AbstractUnitRenderer unitRenderer = renderers.get(unit.getUnitType());
+        if (unitRenderer != null) {
+            unitRenderer.accept(unit, surface);
+        }
     }
 
-    private void renderUnit(@Nonnull final Unit unit, @Nonnull final Surface surface) {
-        ofNullable(unitRenderers.get(unit.getUnitType())).ifPresent(consumer -> consumer.accept(unit, surface));
+    private void flush(
+            @Nonnull final Map<UnitType, AbstractUnitRenderer> renderers, @Nonnull final Surface surface) {
+        for (final AbstractUnitRenderer unitRenderer : renderers.values()) {
+            unitRenderer.flush(surface);
+        }
     }
 }
@@ -21,12 +21,13 @@ public class GridRenderer implements SurfaceConsumer {
 
     private static final boolean ENABLED = false;
     private static final int DELTA = 50;
+    private static final Color GRID_COLOR = new Color(66, 84, 120);
 
     @Override
     public void accept(@Nonnull final Surface surface) {
         if (ENABLED) {
             final Graphics2D graphics = surface.getDrawGraphics();
-            graphics.setColor(new Color(66, 84, 120));
+            graphics.setColor(GRID_COLOR);
 
             final Location topLeft = surface.getCoordinateSystem().getTopLeft();
             final Location botRight = surface.getCoordinateSystem().getBottomRight();
@@ -1,49 +1,101 @@
 package com.mday.ui.render.debug;
 
+import static java.util.Collections.unmodifiableSet;
+
 import com.mday.event.Event;
 import com.mday.event.EventConsumer;
+import com.mday.event.EventType;
 import com.mday.event.type.input.MouseEvent;
+import com.mday.game.ChangeSource;
+import com.mday.game.CoordinateSystem;
 import com.mday.model.Location;
 import com.mday.ui.Surface;
 import com.mday.ui.SurfaceConsumer;
+import com.mday.ui.render.TextLabel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.geom.Point2D;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 
 /**
  * Responsible for drawing the current mouse coordinate location.
  */
-public class MousePositionRenderer implements SurfaceConsumer, EventConsumer {
+public class MousePositionRenderer implements SurfaceConsumer, EventConsumer, ChangeSource {
     private static final Logger LOGGER = LoggerFactory.getLogger(MousePositionRenderer.class);
 
+    private static final Set<EventType> EVENT_TYPES = unmodifiableSet(EnumSet.of(EventType.MOUSE));
+
+    private static final Font TEXT_FONT = new Font("Dialog", Font.PLAIN, 12);
+    private static final Color TEXT_COLOR = new Color(200, 200, 200);
+
     private int x = 0;
     private int y = 0;
+    @Nonnull
+    private final AtomicLong version = new AtomicLong();
+
+    @Nonnull
+    private final TextLabel pointXLabel = new TextLabel(TEXT_FONT, TEXT_COLOR);
+    @Nonnull
+    private final TextLabel pointYLabel = new TextLabel(TEXT_FONT, TEXT_COLOR);
+    @Nonnull
+    private final TextLabel locationXLabel = new TextLabel(TEXT_FONT, TEXT_COLOR);
+    @Nonnull
+    private final TextLabel locationYLabel = new TextLabel(TEXT_FONT, TEXT_COLOR);
+    // The versions of this renderer and of the coordinate system shown by the labels, which are only formatted again
+    // when the mouse or the camera moves.
+    private long labelVersion = -1;
+    private long labelCoordinateVersion = -1;
 
     @Override
     public void accept(@Nonnull final Surface surface) {
+        final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+        if (version.get() != labelVersion || coordinateSystem.getVersion() != labelCoordinateVersion) {
+            labelVersion = version.get();
+            labelCoordinateVersion = coordinateSystem.getVersion();
+
+            final Point2D.Double point = new Point2D.Double(x, y);
+            final Location location = coordinateSystem.toLocation(point);
+            pointXLabel.setText(String.format("PX: %.2f", point.getX()));
+            pointYLabel.setText(String.format("PY: %.2f", point.getY()));
+            locationXLabel.setText(String.format("LX: %.2f", location.getX()));
+            locationYLabel.setText(String.format("LY: %.2f", location.getY()));
+        }
+
         final Graphics2D graphics = surface.getDrawGraphics();
-        graphics.setColor(new Color(200, 200, 200));
+        pointXLabel.draw(graphics, 10, 20);
+        pointYLabel.draw(graphics, 10, 40);
+        locationXLabel.draw(graphics, 10, 60);
+        locationYLabel.draw(graphics, 10, 80);
+    }
 
-        final Point2D.Double point = new Point2D.Double(x, y);
-        final Location location = surface.getCoordinateSystem().toLocation(point);
+    @Override
+    @Nonnull
+    public Set<EventType> getEventTypes() {
+        return EVENT_TYPES;
+    }
 
-        graphics.drawString(String.format("PX: %.2f", point.getX()), 10, 20);
-        graphics.drawString(String.format("PY: %.2f", point.getY()), 10, 40);
-        graphics.drawString(String.format("LX: %.2f", location.getX()), 10, 60);
-        graphics.drawString(String.format("LY: %.2f", location.getY()), 10, 80);
+    @Override
+    public long getVersion() {
+        return version.get();
     }
 
     @Override
     public void accept(@Nonnull final Event event) {
         if (event instanceof MouseEvent) {
             final MouseEvent mouseEvent = (MouseEvent) event;
-            x = mouseEvent.getMouseEvent().getX();
-            y = mouseEvent.getMouseEvent().getY();
+            if (x != mouseEvent.getMouseEvent().getX() || y != mouseEvent.getMouseEvent().getY()) {
+                x = mouseEvent.getMouseEvent().getX();
+                y = mouseEvent.getMouseEvent().getY();
+                version.incrementAndGet();
+            }
         }
     }
 }
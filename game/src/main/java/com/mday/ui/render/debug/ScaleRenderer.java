@@ -2,11 +2,12 @@ package com.mday.ui.render.debug;
 
 import com.mday.ui.Surface;
 import com.mday.ui.SurfaceConsumer;
+import com.mday.ui.render.TextLabel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.Color;
-import java.awt.Graphics2D;
+import java.awt.Font;
 
 import javax.annotation.Nonnull;
 
@@ -16,12 +17,20 @@ import javax.annotation.Nonnull;
 public class ScaleRenderer implements SurfaceConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScaleRenderer.class);
 
+    private static final Font TEXT_FONT = new Font("Dialog", Font.PLAIN, 12);
+    private static final Color TEXT_COLOR = new Color(200, 200, 200);
+
+    @Nonnull
+    private final TextLabel scaleLabel = new TextLabel(TEXT_FONT, TEXT_COLOR);
+    // The scale shown by the label, which is only formatted again when the scale changes.
+    private double scale = Double.NaN;
+
     @Override
     public void accept(@Nonnull final Surface surface) {
-        final Graphics2D graphics = surface.getDrawGraphics();
-        graphics.setColor(new Color(200, 200, 200));
-
-        final String scale = String.format("Scale: %.2f", surface.getCoordinateSystem().getScale());
-        graphics.drawString(scale, 10, surface.getHeight() - 10);
+        if (surface.getCoordinateSystem().getScale() != scale) {
+            scale = surface.getCoordinateSystem().getScale();
+            scaleLabel.setText(String.format("Scale: %.2f", scale));
+        }
+        scaleLabel.draw(surface.getDrawGraphics(), 10, surface.getHeight() - 10);
     }
 }
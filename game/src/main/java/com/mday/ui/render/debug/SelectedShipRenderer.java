@@ -1,20 +1,22 @@
 package com.mday.ui.render.debug;
 
-import static com.mday.model.UnitType.SHIP;
-import static java.util.stream.Collectors.toSet;
-
 import com.mday.game.Units;
 import com.mday.ui.Surface;
 import com.mday.ui.SurfaceConsumer;
-import com.mday.model.Ship;
+import com.mday.ui.render.TextLabel;
+import com.mday.model.ShipClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.Color;
-import java.awt.FontMetrics;
+import java.awt.Font;
 import java.awt.Graphics2D;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 
@@ -24,9 +26,23 @@ import javax.annotation.Nonnull;
 public class SelectedShipRenderer implements SurfaceConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(SelectedShipRenderer.class);
 
+    private static final Font TEXT_FONT = new Font("Dialog", Font.PLAIN, 12);
+    private static final Color TEXT_COLOR = new Color(200, 200, 200);
+
+    // The ship classes in the order they are listed, sorted by name.
+    private static final ShipClass[] SHIP_CLASSES = sortedShipClasses();
+
     @Nonnull
     private final Units units;
 
+    @Nonnull
+    private final Map<ShipClass, TextLabel> labels = new EnumMap<>(ShipClass.class);
+    // The labels of the ship classes with selected ships, which are only updated when the units change.
+    @Nonnull
+    private final List<TextLabel> displayed = new ArrayList<>();
+    private long labelVersion = -1;
+    private int textWidth = 0;
+
     /**
      * Create an instance of this renderer.
      *
@@ -34,27 +50,44 @@ public class SelectedShipRenderer implements SurfaceConsumer {
      */
     public SelectedShipRenderer(@Nonnull final Units units) {
         this.units = units;
+        for (final ShipClass shipClass : SHIP_CLASSES) {
+            labels.put(shipClass, new TextLabel(TEXT_FONT, TEXT_COLOR));
+        }
     }
 
     @Override
     public void accept(@Nonnull final Surface surface) {
+        if (units.getVersion() != labelVersion) {
+            labelVersion = units.getVersion();
+            updateLabels();
+        }
+
         final Graphics2D graphics = surface.getDrawGraphics();
-        graphics.setColor(new Color(200, 200, 200));
-
-        final Set<String> selectedShipClasses = new TreeSet<>(
-                units.getSelected().stream().filter(unit -> unit.getUnitType() == SHIP)
-                        .map(unit -> (Ship) unit).map(ship -> ship.getShipClass().name()).collect(toSet()));
-
-        final FontMetrics fontMetrics = graphics.getFontMetrics();
-        //final int textHeight = fontMetrics.getMaxAscent() + fontMetrics.getMaxDescent();
-        final int textWidth = selectedShipClasses.stream().mapToInt(fontMetrics::stringWidth).max().orElse(0);
-
-        int displayed = 0;
-        for (final String shipClass : selectedShipClasses) {
-            final int x = surface.getWidth() - textWidth - 15;
-            final int y = 15 + (displayed * (fontMetrics.getHeight() + 5));
-            graphics.drawString(shipClass, x, y);
-            displayed++;
+        final int x = surface.getWidth() - textWidth - 15;
+        for (int line = 0; line < displayed.size(); line++) {
+            final TextLabel label = displayed.get(line);
+            label.draw(graphics, x, 15 + line * (label.getHeight() + 5));
+        }
+    }
+
+    private void updateLabels() {
+        displayed.clear();
+        textWidth = 0;
+        for (final ShipClass shipClass : SHIP_CLASSES) {
+            final int count = units.getSelectedCount(shipClass);
+            if (count > 0) {
+                final TextLabel label = labels.get(shipClass);
+                label.setText(String.format("%s: %d", shipClass.name(), count));
+                displayed.add(label);
+                textWidth = Math.max(textWidth, label.getWidth());
+            }
         }
     }
+
+    @Nonnull
+    private static ShipClass[] sortedShipClasses() {
+        final ShipClass[] shipClasses = ShipClass.values();
+        Arrays.sort(shipClasses, Comparator.comparing(ShipClass::name));
+        return shipClasses;
+    }
 }
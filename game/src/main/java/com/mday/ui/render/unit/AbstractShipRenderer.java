@@ -2,18 +2,16 @@ package com.mday.ui.render.unit;
 
 import com.mday.ui.Surface;
 import com.mday.model.Ship;
+import com.mday.model.ShipClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
-import javax.imageio.ImageIO;
 
 /**
  * The base class for unit renderers.
@@ -21,16 +19,23 @@ import javax.imageio.ImageIO;
 public abstract class AbstractShipRenderer implements BiConsumer<Ship, Surface> {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractShipRenderer.class);
 
+    @Nonnull
     private final BufferedImage shipImage;
+    @Nonnull
+    private final SpriteCache spriteCache;
 
     /**
      * Create an instance of this ship renderer.
      *
-     * @param imageResource the name of the image resource to be rendered
-     * @throws IOException if there is a problem loading the ship image resource
+     * @param shipClass the class of ship whose image is to be rendered
+     * @param shipAtlas the atlas holding the ship images
+     * @param spriteCache the cache holding the ship image scaled and rotated for drawing
      */
-    public AbstractShipRenderer(@Nonnull final String imageResource) throws IOException {
-        shipImage = ImageIO.read(AbstractShipRenderer.class.getClassLoader().getResourceAsStream(imageResource));
+    public AbstractShipRenderer(
+            @Nonnull final ShipClass shipClass, @Nonnull final ShipAtlas shipAtlas,
+            @Nonnull final SpriteCache spriteCache) {
+        this.shipImage = shipAtlas.getShipImage(shipClass);
+        this.spriteCache = spriteCache;
     }
 
     /**
@@ -42,23 +47,22 @@ public abstract class AbstractShipRenderer implements BiConsumer<Ship, Surface>
     protected void drawShip(@Nonnull final Ship ship, @Nonnull final Surface surface) {
         final double radius = ship.getRadius() * surface.getCoordinateSystem().getScale();
 
-        final Point2D.Double center = surface.getCoordinateSystem().toPoint(ship.getLocation());
+        final Point2D.Double center =
+                surface.getCoordinateSystem().toPoint(ship.getInterpolatedLocation(surface.getInterpolation()));
 
         final double imageSize = Math.max(shipImage.getWidth(), shipImage.getHeight());
         final double scale = radius * 2 / imageSize * 0.8;
 
-        final AffineTransform transform = new AffineTransform();
-        // 4. Translate the image to the ship's location.
-        transform.translate(center.getX(), center.getY());
-        // 3. Rotate the image so it matches the ship's direction.
-        transform.rotate(ship.getDirection());
-        // 2. Scale the image so it fits the scaled ship size.
-        transform.scale(scale, scale);
-        // 1. Translate the object so that you rotate it around the center.
-        transform.translate(-shipImage.getWidth() / 2.0, -shipImage.getHeight() / 2.0);
+        // Copy the image already scaled to fit the ship size and rotated to match the ship's direction. Small ships use
+        // an icon, which is rotated to only a few directions.
+        final double direction = ship.getInterpolatedDirection(surface.getInterpolation());
+        final BufferedImage sprite = ShipDetail.forRadius(radius) == ShipDetail.SPRITE
+                ? spriteCache.getSprite(ship.getShipClass(), shipImage, scale, direction)
+                : spriteCache.getIcon(ship.getShipClass(), shipImage, scale, direction);
 
         final Graphics2D graphics = surface.getDrawGraphics();
-        graphics.drawImage(shipImage, transform, null);
+        graphics.drawImage(sprite, (int) Math.round(center.getX() - sprite.getWidth() / 2.0),
+                (int) Math.round(center.getY() - sprite.getHeight() / 2.0), null);
     }
 
     @Override
@@ -1,12 +1,11 @@
 package com.mday.ui.render.unit;
 
+import com.mday.game.ChangeSource;
+import com.mday.game.CoordinateSystem;
 import com.mday.ui.Surface;
 import com.mday.model.Unit;
 
 import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.geom.Ellipse2D;
-import java.awt.geom.Point2D;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
@@ -14,30 +13,56 @@ import javax.annotation.Nonnull;
 /**
  * The base class for unit renderers.
  */
-public abstract class AbstractUnitRenderer implements BiConsumer<Unit, Surface> {
+public abstract class AbstractUnitRenderer implements BiConsumer<Unit, Surface>, ChangeSource {
     private static final Color SELECTION_CIRCLE_COLOR = new Color(226, 231, 101);
 
+    // The selection circles of the units accepted during the current frame, which are drawn together when the renderer
+    // is flushed. Only used by the render thread.
+    @Nonnull
+    private final CircleStamps selectionCircles = new CircleStamps(SELECTION_CIRCLE_COLOR);
+
     /**
-     * Draw a bounding circle surrounding this unit.
+     * Add a bounding circle surrounding this unit, to be drawn with the other selection circles when this renderer is
+     * flushed.
      *
      * @param unit the unit around which the circle will be drawn
      * @param surface the surface on which the circle will be drawn
      */
-    protected void drawSelectionCircle(@Nonnull final Unit unit, @Nonnull final Surface surface) {
-        final double radius = unit.getRadius() * surface.getCoordinateSystem().getScale();
-        final double diameter = radius * 2;
+    protected void addSelectionCircle(@Nonnull final Unit unit, @Nonnull final Surface surface) {
+        final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+        final double radius = unit.getRadius() * coordinateSystem.getScale();
+        final double centerX = coordinateSystem.toPointX(unit.getInterpolatedX(surface.getInterpolation()));
+        final double centerY = coordinateSystem.toPointY(unit.getInterpolatedY(surface.getInterpolation()));
 
-        final Point2D.Double center = surface.getCoordinateSystem().toPoint(unit.getLocation());
+        selectionCircles.add(centerX, centerY, radius);
+    }
 
-        final Graphics2D graphics = surface.getDrawGraphics();
-        graphics.setColor(SELECTION_CIRCLE_COLOR);
-        graphics.draw(new Ellipse2D.Double(center.getX() - radius, center.getY() - radius, diameter, diameter));
+    /**
+     * Draw anything that this renderer has batched up while accepting units during the current frame. This is called
+     * once each frame, after all of the visible units have been accepted. The selection circles are drawn here, over
+     * the units, so subclasses that batch anything else should draw it before calling this method.
+     *
+     * @param surface the surface on which the batched units will be drawn
+     */
+    public void flush(@Nonnull final Surface surface) {
+        selectionCircles.draw(surface.getDrawGraphics());
+    }
+
+    /**
+     * Retrieve the version of the way this renderer draws units, which increases when units it has already drawn would
+     * be drawn differently. Units are drawn the same way throughout by default.
+     *
+     * @return the current version of this renderer
+     */
+    @Override
+    public long getVersion() {
+        return 0;
     }
 
     @Override
     public void accept(@Nonnull final Unit unit, @Nonnull final Surface surface) {
         if (unit.isSelected()) {
-            drawSelectionCircle(unit, surface);
+            addSelectionCircle(unit, surface);
         }
     }
 }
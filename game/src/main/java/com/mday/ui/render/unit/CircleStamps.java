@@ -0,0 +1,136 @@
+package com.mday.ui.render.unit;
+
+import static java.awt.RenderingHints.KEY_ANTIALIASING;
+import static java.awt.RenderingHints.KEY_STROKE_CONTROL;
+import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
+import static java.awt.RenderingHints.VALUE_STROKE_PURE;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB_PRE;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Holds images of circle outlines that have already been drawn, so drawing a circle is a plain copy of pixels instead
+ * of stroking an antialiased shape. The images are keyed by the radius rounded to a quarter of a pixel, and are all
+ * discarded once too many different radii have been drawn, such as while zooming.
+ *
+ * <p>Circles are added during a frame and drawn together by {@link #draw}, grouped by radius, so each stamp is looked
+ * up once per frame rather than once per circle and the graphics is only touched once all the circles are known.</p>
+ *
+ * <p>This class is intended to be used by the render thread only.</p>
+ */
+public class CircleStamps {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircleStamps.class);
+
+    // The number of steps into which each pixel of radius is divided.
+    private static final int RADIUS_STEPS = 4;
+
+    // The number of stamps held before all of them are discarded.
+    private static final int MAX_STAMPS = 256;
+
+    @Nonnull
+    private final Color color;
+    @Nonnull
+    private final Map<Integer, StampBatch> stamps = new HashMap<>();
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param color the color of the circle outlines
+     */
+    public CircleStamps(@Nonnull final Color color) {
+        this.color = color;
+    }
+
+    /**
+     * Add a circle outline centered on the provided point, to be drawn by the next call to {@link #draw}.
+     *
+     * @param centerX the X axis position of the center of the circle
+     * @param centerY the Y axis position of the center of the circle
+     * @param radius the radius of the circle
+     */
+    public void add(final double centerX, final double centerY, final double radius) {
+        final int key = (int) Math.round(radius * RADIUS_STEPS);
+        StampBatch batch = stamps.get(key);
+        if (batch == null) {
+            batch = new StampBatch(render((double) key / RADIUS_STEPS));
+            stamps.put(key, batch);
+        }
+        batch.add((int) Math.round(centerX - batch.stamp.getWidth() / 2.0),
+                (int) Math.round(centerY - batch.stamp.getHeight() / 2.0));
+    }
+
+    /**
+     * Draw all of the circle outlines added since the last call, one radius after another.
+     *
+     * @param graphics the graphics on which to draw the circles
+     */
+    public void draw(@Nonnull final Graphics2D graphics) {
+        for (final StampBatch batch : stamps.values()) {
+            batch.draw(graphics);
+        }
+        // The batches are all empty once drawn, so the stamps can be discarded without losing any circles.
+        if (stamps.size() > MAX_STAMPS) {
+            LOGGER.debug("Discarding {} circle stamps", stamps.size());
+            stamps.clear();
+        }
+    }
+
+    @Nonnull
+    private BufferedImage render(final double radius) {
+        // The stamp is large enough to hold the circle with a pixel of margin for the stroke and antialiasing.
+        final int size = (int) Math.ceil(radius * 2) + 3;
+        final BufferedImage stamp = new BufferedImage(size, size, TYPE_INT_ARGB_PRE);
+        final Graphics2D graphics = stamp.createGraphics();
+        try {
+            graphics.setRenderingHint(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(KEY_STROKE_CONTROL, VALUE_STROKE_PURE);
+            graphics.setColor(color);
+            graphics.draw(new Ellipse2D.Double(size / 2.0 - radius, size / 2.0 - radius, radius * 2, radius * 2));
+        } finally {
+            graphics.dispose();
+        }
+        return stamp;
+    }
+
+    /**
+     * Holds the stamp for a single radius and the positions at which it is drawn during a frame.
+     */
+    private static class StampBatch {
+        @Nonnull
+        private final BufferedImage stamp;
+        // The x and y of the top left corner of each copy of the stamp, one after the other.
+        @Nonnull
+        private int[] positions = new int[2 * 64];
+        private int length = 0;
+
+        StampBatch(@Nonnull final BufferedImage stamp) {
+            this.stamp = stamp;
+        }
+
+        void add(final int x, final int y) {
+            if (length + 2 > positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+            positions[length++] = x;
+            positions[length++] = y;
+        }
+
+        void draw(@Nonnull final Graphics2D graphics) {
+            for (int i = 0; i < length; i += 2) {
+                graphics.drawImage(stamp, positions[i], positions[i + 1], null);
+            }
+            length = 0;
+        }
+    }
+}
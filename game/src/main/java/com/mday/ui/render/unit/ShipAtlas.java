@@ -0,0 +1,121 @@
+package com.mday.ui.render.unit;
+
+import static com.mday.model.ShipClass.COLLECTOR;
+import static com.mday.model.ShipClass.DESTROYER;
+import static com.mday.model.ShipClass.DREADNOUGHT;
+import static com.mday.model.ShipClass.FIGHTER;
+import static com.mday.model.ShipClass.FRIGATE;
+import static com.mday.model.ShipClass.RECON;
+import static com.mday.model.ShipClass.REPAIR;
+import static com.mday.model.ShipClass.RESEARCH;
+import static com.mday.model.ShipClass.SHIELD_GENERATOR;
+import static com.mday.model.ShipClass.SHIPYARD;
+import static com.mday.model.ShipClass.TRANSPORT;
+
+import com.mday.model.ShipClass;
+import com.mday.ui.AssetManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Holds the images of all of the ship classes in a single texture atlas, which is decoded once. The image of each ship
+ * class is a view over its region of the atlas, so all of the ships are drawn from the same source image.
+ */
+public class ShipAtlas {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShipAtlas.class);
+
+    /**
+     * The name of the image resource holding the default ship atlas.
+     */
+    public static final String DEFAULT_IMAGE_RESOURCE = "ships.png";
+
+    // The region of the default atlas holding the image of each ship class.
+    private static final Map<ShipClass, Rectangle> REGIONS = createRegions();
+
+    @Nonnull
+    private final BufferedImage image;
+    @Nonnull
+    private final Map<ShipClass, BufferedImage> shipImages = new EnumMap<>(ShipClass.class);
+
+    /**
+     * Create an instance of this class by loading the default ship atlas.
+     *
+     * @throws IOException if there is a problem loading the atlas image resource
+     */
+    public ShipAtlas() throws IOException {
+        this(DEFAULT_IMAGE_RESOURCE);
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param imageResource the name of the image resource holding the ship atlas, laid out like the default atlas
+     * @throws IOException if there is a problem loading the atlas image resource
+     */
+    public ShipAtlas(@Nonnull final String imageResource) throws IOException {
+        this(AssetManager.readImage(imageResource));
+    }
+
+    /**
+     * Create an instance of this class from an atlas image that has already been loaded.
+     *
+     * @param image the atlas image, laid out like the default atlas
+     */
+    public ShipAtlas(@Nonnull final BufferedImage image) {
+        this.image = image;
+        REGIONS.forEach((shipClass, region) ->
+                shipImages.put(shipClass, image.getSubimage(region.x, region.y, region.width, region.height)));
+    }
+
+    /**
+     * Retrieve the whole atlas image, of which each ship image is a region.
+     *
+     * @return the whole atlas image
+     */
+    @Nonnull
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Retrieve the image of the provided ship class, which is a view over its region of the atlas.
+     *
+     * @param shipClass the class of ship for which the image should be retrieved
+     * @return the image of the provided ship class
+     * @throws IllegalArgumentException if the atlas has no image for the ship class
+     */
+    @Nonnull
+    public BufferedImage getShipImage(@Nonnull final ShipClass shipClass) {
+        final BufferedImage shipImage = shipImages.get(shipClass);
+        if (shipImage == null) {
+            throw new IllegalArgumentException("No image for ship class " + shipClass);
+        }
+        return shipImage;
+    }
+
+    @Nonnull
+    private static Map<ShipClass, Rectangle> createRegions() {
+        final Map<ShipClass, Rectangle> regions = new EnumMap<>(ShipClass.class);
+        regions.put(SHIPYARD, new Rectangle(10, 8, 44, 54));
+        regions.put(COLLECTOR, new Rectangle(10, 8, 44, 54));
+        regions.put(DESTROYER, new Rectangle(78, 16, 40, 46));
+        regions.put(DREADNOUGHT, new Rectangle(138, 2, 52, 60));
+        regions.put(FIGHTER, new Rectangle(206, 14, 48, 48));
+        regions.put(FRIGATE, new Rectangle(266, 12, 60, 50));
+        regions.put(RECON, new Rectangle(334, 8, 56, 54));
+        regions.put(REPAIR, new Rectangle(400, 4, 56, 58));
+        regions.put(RESEARCH, new Rectangle(472, 6, 44, 56));
+        regions.put(SHIELD_GENERATOR, new Rectangle(536, 16, 48, 46));
+        regions.put(TRANSPORT, new Rectangle(598, 10, 56, 52));
+        return Collections.unmodifiableMap(regions);
+    }
+}
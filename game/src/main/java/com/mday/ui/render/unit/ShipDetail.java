@@ -0,0 +1,50 @@
+package com.mday.ui.render.unit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Defines the levels of detail at which ships are drawn, chosen by the radius of the ship on the screen so that
+ * zoomed out views of large fleets remain cheap to draw.
+ */
+public enum ShipDetail {
+    /**
+     * The ship image scaled and rotated to match the ship as closely as the sprite cache allows.
+     */
+    SPRITE,
+
+    /**
+     * A small icon of the ship image, rotated to one of only a few directions so very few icons need to be cached.
+     */
+    ICON,
+
+    /**
+     * A single square of the color of the ship owner, drawn in a batch with the other ships of the same owner.
+     */
+    POINT;
+
+    /**
+     * The radius on the screen in pixels below which ships are drawn as icons.
+     */
+    public static final double ICON_RADIUS = 12.0;
+
+    /**
+     * The radius on the screen in pixels below which ships are drawn as points.
+     */
+    public static final double POINT_RADIUS = 2.0;
+
+    /**
+     * Retrieve the level of detail at which a ship should be drawn.
+     *
+     * @param radius the radius of the ship on the screen in pixels
+     * @return the level of detail at which the ship should be drawn
+     */
+    @Nonnull
+    public static ShipDetail forRadius(final double radius) {
+        if (radius < POINT_RADIUS) {
+            return POINT;
+        } else if (radius < ICON_RADIUS) {
+            return ICON;
+        }
+        return SPRITE;
+    }
+}
@@ -11,8 +11,10 @@ import static com.mday.model.ShipClass.RESEARCH;
 import static com.mday.model.ShipClass.SHIELD_GENERATOR;
 import static com.mday.model.ShipClass.SHIPYARD;
 import static com.mday.model.ShipClass.TRANSPORT;
-import static java.util.Optional.ofNullable;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB_PRE;
 
+import com.mday.game.CoordinateSystem;
+import com.mday.ui.AssetManager;
 import com.mday.ui.Surface;
 import com.mday.ui.render.unit.ship.CollectorRenderer;
 import com.mday.ui.render.unit.ship.DestroyerRenderer;
@@ -31,10 +33,22 @@ import com.mday.model.Unit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
 /**
@@ -43,26 +57,86 @@ import javax.annotation.Nonnull;
 public class ShipRenderer extends AbstractUnitRenderer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ShipRenderer.class);
 
+    private static final Color PLACEHOLDER_COLOR = new Color(90, 90, 90);
+
+    // The points are written into a raster and copied in one call when there is at least one point for this many pixels
+    // of the area they cover, below which filling a square for each point is cheaper than copying the whole area.
+    private static final int RASTER_PIXELS_PER_POINT = 128;
+
     @Nonnull
     private final ConcurrentHashMap<ShipClass, BiConsumer<Ship, Surface>> shipRenderers = new ConcurrentHashMap<>();
+    // The ships drawn as points during the current frame, by owner. These are only used by the render thread.
+    @Nonnull
+    private final Map<String, PointBatch> pointBatches = new HashMap<>();
+    @Nonnull
+    private final PointRaster pointRaster = new PointRaster();
+    // The number of points in the batches, and the bounds of the squares drawn for them.
+    private int pointCount = 0;
+    private int pointMinX = Integer.MAX_VALUE;
+    private int pointMinY = Integer.MAX_VALUE;
+    private int pointMaxX = Integer.MIN_VALUE;
+    private int pointMaxY = Integer.MIN_VALUE;
+    // The shape reused to draw each placeholder, only used by the render thread.
+    @Nonnull
+    private final Ellipse2D.Double placeholder = new Ellipse2D.Double();
+    // Increased once the ship images have loaded, so the placeholders are replaced.
+    @Nonnull
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Create an instance of this class, loading the default ship atlas in the background and using a sprite cache with
+     * the default number of angles and pixel budget.
+     *
+     * @param assetManager the asset manager used to load the ship atlas
+     */
+    public ShipRenderer(@Nonnull final AssetManager assetManager) {
+        this(assetManager.loadImage(ShipAtlas.DEFAULT_IMAGE_RESOURCE).thenApply(ShipAtlas::new), new SpriteCache());
+    }
 
     /**
      * Create an instance of this class.
      *
-     * @throws IOException if any of the renderers are unable to load the ship images
+     * @param shipAtlas the atlas holding the ship images
+     * @param spriteCache the cache holding the ship images scaled and rotated for drawing
      */
-    public ShipRenderer() throws IOException {
-        shipRenderers.put(SHIPYARD, new ShipyardRenderer());
-        shipRenderers.put(RECON, new ReconRenderer());
-        shipRenderers.put(FIGHTER, new FighterRenderer());
-        shipRenderers.put(FRIGATE, new FrigateRenderer());
-        shipRenderers.put(DESTROYER, new DestroyerRenderer());
-        shipRenderers.put(DREADNOUGHT, new DreadnoughtRenderer());
-        shipRenderers.put(TRANSPORT, new TransportRenderer());
-        shipRenderers.put(RESEARCH, new ResearchRenderer());
-        shipRenderers.put(REPAIR, new RepairRenderer());
-        shipRenderers.put(COLLECTOR, new CollectorRenderer());
-        shipRenderers.put(SHIELD_GENERATOR, new ShieldGeneratorRenderer());
+    public ShipRenderer(@Nonnull final ShipAtlas shipAtlas, @Nonnull final SpriteCache spriteCache) {
+        this(CompletableFuture.completedFuture(shipAtlas), spriteCache);
+    }
+
+    /**
+     * Create an instance of this class, drawing placeholders for the ships until the ship atlas has been loaded.
+     *
+     * @param shipAtlas the ship atlas, which may still be loading
+     * @param spriteCache the cache holding the ship images scaled and rotated for drawing
+     */
+    public ShipRenderer(@Nonnull final CompletionStage<ShipAtlas> shipAtlas, @Nonnull final SpriteCache spriteCache) {
+        shipAtlas.whenComplete((atlas, exception) -> {
+            if (atlas != null) {
+                addShipRenderers(atlas, spriteCache);
+                version.incrementAndGet();
+            } else {
+                LOGGER.error("Failed to load the ship atlas, ships will be drawn as placeholders", exception);
+            }
+        });
+    }
+
+    private void addShipRenderers(@Nonnull final ShipAtlas shipAtlas, @Nonnull final SpriteCache spriteCache) {
+        shipRenderers.put(SHIPYARD, new ShipyardRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(RECON, new ReconRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(FIGHTER, new FighterRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(FRIGATE, new FrigateRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(DESTROYER, new DestroyerRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(DREADNOUGHT, new DreadnoughtRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(TRANSPORT, new TransportRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(RESEARCH, new ResearchRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(REPAIR, new RepairRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(COLLECTOR, new CollectorRenderer(shipAtlas, spriteCache));
+        shipRenderers.put(SHIELD_GENERATOR, new ShieldGeneratorRenderer(shipAtlas, spriteCache));
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
     }
 
     @Override
@@ -71,7 +145,162 @@ public class ShipRenderer extends AbstractUnitRenderer {
 
         if (unit instanceof Ship) {
             final Ship ship = (Ship) unit;
-            ofNullable(shipRenderers.get(ship.getShipClass())).ifPresent(consumer -> consumer.accept(ship, surface));
+            final double radius = ship.getRadius() * surface.getCoordinateSystem().getScale();
+            if (ShipDetail.forRadius(radius) == ShipDetail.POINT) {
+                addPoint(ship, radius, surface);
+                return;
+            }
+
+            final BiConsumer<Ship, Surface> shipRenderer = shipRenderers.get(ship.getShipClass());
+            if (shipRenderer != null) {
+                shipRenderer.accept(ship, surface);
+            } else {
+                drawPlaceholder(ship, surface);
+            }
+        }
+    }
+
+    /**
+     * Draw the ships that are too small to be drawn as images, as squares batched by the owner of the ship, then the
+     * selection circles. When the squares are dense enough they are all written into a raster that is copied onto
+     * the surface in a single call, otherwise each square is filled.
+     *
+     * @param surface the surface on which the ships will be drawn
+     */
+    @Override
+    public void flush(@Nonnull final Surface surface) {
+        if (pointCount > 0) {
+            final Graphics2D graphics = surface.getDrawGraphics();
+            final long area = (long) (pointMaxX - pointMinX) * (pointMaxY - pointMinY);
+            if ((long) pointCount * RASTER_PIXELS_PER_POINT >= area) {
+                pointRaster.draw(graphics, pointBatches.values(), pointMinX, pointMinY, pointMaxX, pointMaxY);
+            } else {
+                for (final PointBatch pointBatch : pointBatches.values()) {
+                    pointBatch.fill(graphics);
+                }
+            }
+            pointCount = 0;
+            pointMinX = Integer.MAX_VALUE;
+            pointMinY = Integer.MAX_VALUE;
+            pointMaxX = Integer.MIN_VALUE;
+            pointMaxY = Integer.MIN_VALUE;
+        }
+        super.flush(surface);
+    }
+
+    private void addPoint(@Nonnull final Ship ship, final double radius, @Nonnull final Surface surface) {
+        final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+        final double interpolation = surface.getInterpolation();
+        // Match the size of the ship image, which is drawn at 80% of the ship size.
+        final int size = Math.max(1, (int) Math.round(radius * 1.6));
+        final int x = (int) Math.round(coordinateSystem.toPointX(ship.getInterpolatedX(interpolation)) - size / 2.0);
+        final int y = (int) Math.round(coordinateSystem.toPointY(ship.getInterpolatedY(interpolation)) - size / 2.0);
+        pointBatches.computeIfAbsent(ship.getOwner(), PointBatch::new).add(x, y, size);
+        pointCount++;
+        pointMinX = Math.min(pointMinX, x);
+        pointMinY = Math.min(pointMinY, y);
+        pointMaxX = Math.max(pointMaxX, x + size);
+        pointMaxY = Math.max(pointMaxY, y + size);
+    }
+
+    private void drawPlaceholder(@Nonnull final Ship ship, @Nonnull final Surface surface) {
+        // Match the size of the ship image, which is drawn at 80% of the ship size.
+        final CoordinateSystem coordinateSystem = surface.getCoordinateSystem();
+        final double radius = ship.getRadius() * coordinateSystem.getScale() * 0.8;
+        final double centerX = coordinateSystem.toPointX(ship.getInterpolatedX(surface.getInterpolation()));
+        final double centerY = coordinateSystem.toPointY(ship.getInterpolatedY(surface.getInterpolation()));
+        placeholder.setFrame(centerX - radius, centerY - radius, radius * 2, radius * 2);
+
+        final Graphics2D graphics = surface.getDrawGraphics();
+        graphics.setColor(PLACEHOLDER_COLOR);
+        graphics.fill(placeholder);
+    }
+
+    /**
+     * Holds the squares drawn for the ships of a single owner during a frame.
+     */
+    private static class PointBatch {
+        // The colors in which the ships of each owner are drawn, chosen by the hash of the owner id.
+        private static final Color[] OWNER_COLORS = {
+                new Color(96, 200, 255), new Color(255, 110, 90), new Color(130, 230, 120),
+                new Color(240, 210, 90), new Color(200, 130, 255), new Color(255, 160, 210)
+        };
+
+        @Nonnull
+        private final Color color;
+        // The x, y and size of each square, one after the other.
+        @Nonnull
+        private int[] squares = new int[3 * 64];
+        private int length = 0;
+
+        PointBatch(@Nonnull final String owner) {
+            this.color = OWNER_COLORS[Math.floorMod(owner.hashCode(), OWNER_COLORS.length)];
+        }
+
+        void add(final int x, final int y, final int size) {
+            if (length + 3 > squares.length) {
+                squares = Arrays.copyOf(squares, squares.length * 2);
+            }
+            squares[length++] = x;
+            squares[length++] = y;
+            squares[length++] = size;
+        }
+
+        void fill(@Nonnull final Graphics2D graphics) {
+            if (length > 0) {
+                graphics.setColor(color);
+                for (int i = 0; i < length; i += 3) {
+                    graphics.fillRect(squares[i], squares[i + 1], squares[i + 2], squares[i + 2]);
+                }
+                length = 0;
+            }
+        }
+
+        void write(@Nonnull final int[] pixels, final int scanline, final int originX, final int originY) {
+            // The owner colors are opaque, so the premultiplied pixel is the same as the color.
+            final int pixel = color.getRGB();
+            for (int i = 0; i < length; i += 3) {
+                final int left = squares[i] - originX;
+                final int top = squares[i + 1] - originY;
+                final int size = squares[i + 2];
+                for (int row = top; row < top + size; row++) {
+                    final int start = row * scanline + left;
+                    Arrays.fill(pixels, start, start + size, pixel);
+                }
+            }
+            length = 0;
+        }
+    }
+
+    /**
+     * Holds the raster into which the squares of all the owners are written, so they are copied onto the surface with a
+     * single call. The raster only grows, and is cleared after each copy.
+     */
+    private static class PointRaster {
+        @CheckForNull
+        private BufferedImage image;
+
+        void draw(
+                @Nonnull final Graphics2D graphics, @Nonnull final Collection<PointBatch> pointBatches,
+                final int minX, final int minY, final int maxX, final int maxY) {
+            final int width = maxX - minX;
+            final int height = maxY - minY;
+            BufferedImage raster = image;
+            if (raster == null || raster.getWidth() < width || raster.getHeight() < height) {
+                raster = new BufferedImage(Math.max(width, raster == null ? 0 : raster.getWidth()),
+                        Math.max(height, raster == null ? 0 : raster.getHeight()), TYPE_INT_ARGB_PRE);
+                image = raster;
+            }
+
+            final int[] pixels = ((DataBufferInt) raster.getRaster().getDataBuffer()).getData();
+            final int scanline = raster.getWidth();
+            for (final PointBatch pointBatch : pointBatches) {
+                pointBatch.write(pixels, scanline, minX, minY);
+            }
+            graphics.drawImage(raster, minX, minY, maxX, maxY, 0, 0, width, height, null);
+            for (int row = 0; row < height; row++) {
+                Arrays.fill(pixels, row * scanline, row * scanline + width, 0);
+            }
         }
     }
 }
@@ -0,0 +1,212 @@
+package com.mday.ui.render.unit;
+
+import static java.awt.RenderingHints.KEY_ANTIALIASING;
+import static java.awt.RenderingHints.KEY_INTERPOLATION;
+import static java.awt.RenderingHints.KEY_RENDERING;
+import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
+import static java.awt.RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+import static java.awt.RenderingHints.VALUE_RENDER_QUALITY;
+
+import com.mday.model.ShipClass;
+import com.mday.ui.AssetManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Holds ship images that have already been scaled and rotated, so drawing a ship is a plain copy of pixels instead of
+ * resampling the full size image with a transform each frame. Sprites are keyed by the ship class, the scale rounded
+ * to one of a series of buckets each {@code 9%} larger than the last, and the direction rounded to one of a fixed
+ * number of angles. The least recently used sprites are evicted once the cached sprites exceed a pixel budget.
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class SpriteCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpriteCache.class);
+
+    /**
+     * The default number of angles to which ship directions are rounded.
+     */
+    public static final int DEFAULT_ANGLES = 64;
+
+    /**
+     * The default number of pixels held by the cached sprites before the least recently used are evicted, using about
+     * 32 megabytes of memory.
+     */
+    public static final long DEFAULT_MAX_PIXELS = 8L * 1024 * 1024;
+
+    /**
+     * The number of angles to which the directions of ship icons are rounded.
+     */
+    public static final int ICON_ANGLES = 8;
+
+    // Each scale bucket is larger than the last by the eighth root of two, so eight buckets double the size.
+    private static final double SCALE_STEP = Math.log(2) / 8;
+
+    private final int angles;
+    private final long maxPixels;
+
+    // Ordered from the least to the most recently used sprite.
+    @Nonnull
+    private final Map<Long, BufferedImage> sprites = new LinkedHashMap<>(256, 0.75f, true);
+    private long pixels = 0;
+
+    /**
+     * Create an instance of this class using the default number of angles and pixel budget.
+     */
+    public SpriteCache() {
+        this(DEFAULT_ANGLES, DEFAULT_MAX_PIXELS);
+    }
+
+    /**
+     * Create an instance of this class.
+     *
+     * @param angles the number of angles to which ship directions are rounded
+     * @param maxPixels the number of pixels held by the cached sprites before the least recently used are evicted
+     */
+    public SpriteCache(final int angles, final long maxPixels) {
+        if (angles <= 0 || maxPixels <= 0) {
+            throw new IllegalArgumentException("The number of angles and the pixel budget must be positive");
+        }
+        this.angles = angles;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * Retrieve the sprite for a ship image drawn at the provided scale and direction, rendering it if it is not
+     * already cached. The sprite is square and should be drawn centered on the location of the ship.
+     *
+     * @param shipClass the class of ship drawn by the image
+     * @param image the full size ship image, which must always be the same image for the ship class
+     * @param scale the ratio of sprite pixels to image pixels
+     * @param direction the direction the ship is facing in radians
+     * @return the sprite of the ship image scaled and rotated to the nearest cached scale and angle
+     */
+    @Nonnull
+    public BufferedImage getSprite(
+            @Nonnull final ShipClass shipClass, @Nonnull final BufferedImage image, final double scale,
+            final double direction) {
+        final int angle = Math.floorMod((int) Math.round(direction / (2 * Math.PI) * angles), angles);
+        return getSprite(shipClass, image, scale, angle);
+    }
+
+    @Nonnull
+    private BufferedImage getSprite(
+            @Nonnull final ShipClass shipClass, @Nonnull final BufferedImage image, final double scale,
+            final int angle) {
+        final int scaleBucket = (int) Math.round(Math.log(Math.max(scale, Double.MIN_NORMAL)) / SCALE_STEP);
+        final long key = ((long) shipClass.ordinal() << 48) | ((scaleBucket & 0xFFFFFFFFL) << 16) | angle;
+
+        synchronized (sprites) {
+            final BufferedImage cached = sprites.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Render outside the lock, so other threads are not blocked. Two threads may occasionally render the same
+        // sprite, in which case the last one rendered is kept.
+        final BufferedImage sprite = render(image, Math.exp(scaleBucket * SCALE_STEP), angle * 2 * Math.PI / angles);
+        synchronized (sprites) {
+            final BufferedImage previous = sprites.put(key, sprite);
+            if (previous != null) {
+                pixels -= getPixels(previous);
+            }
+            pixels += getPixels(sprite);
+            evict();
+        }
+        return sprite;
+    }
+
+    /**
+     * Retrieve the icon for a ship image drawn at the provided scale and direction, rendering it if it is not already
+     * cached. Icons are sprites whose direction is rounded to one of only {@value #ICON_ANGLES} angles, for ships that
+     * are drawn too small for their exact direction to be seen. The icon is square and should be drawn centered on the
+     * location of the ship.
+     *
+     * @param shipClass the class of ship drawn by the image
+     * @param image the full size ship image, which must always be the same image for the ship class
+     * @param scale the ratio of icon pixels to image pixels
+     * @param direction the direction the ship is facing in radians
+     * @return the icon of the ship image scaled and rotated to the nearest cached scale and icon angle
+     */
+    @Nonnull
+    public BufferedImage getIcon(
+            @Nonnull final ShipClass shipClass, @Nonnull final BufferedImage image, final double scale,
+            final double direction) {
+        // Round to the nearest icon angle, expressed as one of the sprite angles so icons share the sprite storage.
+        final int step = Math.max(1, angles / ICON_ANGLES);
+        final int angle = Math.floorMod((int) Math.round(direction / (2 * Math.PI) * angles / step) * step, angles);
+        return getSprite(shipClass, image, scale, angle);
+    }
+
+    /**
+     * Retrieve the number of sprites currently cached.
+     *
+     * @return the number of sprites currently cached
+     */
+    public int size() {
+        synchronized (sprites) {
+            return sprites.size();
+        }
+    }
+
+    /**
+     * Remove all of the cached sprites.
+     */
+    public void clear() {
+        synchronized (sprites) {
+            sprites.clear();
+            pixels = 0;
+        }
+    }
+
+    private void evict() {
+        final Iterator<BufferedImage> iterator = sprites.values().iterator();
+        // Always keep the most recently added sprite, even if it is larger than the whole budget.
+        while (pixels > maxPixels && sprites.size() > 1) {
+            pixels -= getPixels(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    @Nonnull
+    private static BufferedImage render(@Nonnull final BufferedImage image, final double scale, final double angle) {
+        // The sprite is large enough to hold the image rotated to any angle, with a pixel of margin for antialiasing.
+        final int size = (int) Math.ceil(Math.hypot(image.getWidth(), image.getHeight()) * scale) + 2;
+        final BufferedImage sprite = AssetManager.createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+
+        final AffineTransform transform = new AffineTransform();
+        // 3. Translate the image to the center of the sprite.
+        transform.translate(size / 2.0, size / 2.0);
+        // 2. Rotate and scale the image around its center.
+        transform.rotate(angle);
+        transform.scale(scale, scale);
+        // 1. Translate the image so that it is centered on the origin.
+        transform.translate(-image.getWidth() / 2.0, -image.getHeight() / 2.0);
+
+        final Graphics2D graphics = sprite.createGraphics();
+        try {
+            graphics.setRenderingHint(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(KEY_RENDERING, VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(KEY_INTERPOLATION, VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return sprite;
+    }
+
+    private static long getPixels(@Nonnull final BufferedImage sprite) {
+        return (long) sprite.getWidth() * sprite.getHeight();
+    }
+}
@@ -1,10 +1,14 @@
 package com.mday.ui.render.unit.ship;
 
+import static com.mday.model.ShipClass.COLLECTOR;
+
 import com.mday.ui.render.unit.AbstractShipRenderer;
+import com.mday.ui.render.unit.ShipAtlas;
+import com.mday.ui.render.unit.SpriteCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
+import javax.annotation.Nonnull;
 
 /**
  * Responsible for rendering the recon drone.
@@ -15,9 +19,10 @@ public class CollectorRenderer extends AbstractShipRenderer {
     /**
      * Create an instance of this renderer.
      *
-     * @throws IOException if there is a problem loading the ship image
+     * @param shipAtlas the atlas holding the ship images
+     * @param spriteCache the cache holding the ship image scaled and rotated for drawing
      */
-    public CollectorRenderer() throws IOException {
-        super("ship01.png");
+    public CollectorRenderer(@Nonnull final ShipAtlas shipAtlas, @Nonnull final SpriteCache spriteCache) {
+        super(COLLECTOR, shipAtlas, spriteCache);
     }
 }